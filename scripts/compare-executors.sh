@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Сравнение пропускной способности и задержек: пул потоков IO, виртуальные потоки и реактивный R2DBC.
+# Требуется собранный shadow JAR (./gradlew shadowJar), запущенная БД (переменные DB_*) и wrk.
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*-all.jar | head -n 1)}
+PORT=${PORT:-8080}
+CONNECTIONS=${CONNECTIONS:-1000}
+THREADS=${THREADS:-8}
+DURATION=${DURATION:-60s}
+EMPLOYEE_ID=${EMPLOYEE_ID:-1}
+
+run_mode() {
+    local name=$1 type=$2 virtual=$3 environments=${4:-}
+    echo "=== ${name}"
+    EMPLOYEES_RATE_LIMIT_ENABLED=false MICRONAUT_ENVIRONMENTS=$environments EMPLOYEES_EXECUTOR_TYPE=$type EMPLOYEES_EXECUTOR_VIRTUAL=$virtual \
+        java -Djdk.tracePinnedThreads=short -Dmicronaut.server.port="$PORT" -jar "$JAR" > "build/${name}.log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:${PORT}/employees?size=1" > /dev/null; do sleep 1; done
+
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "http://localhost:${PORT}/employees?size=50"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "http://localhost:${PORT}/employees/${EMPLOYEE_ID}"
+
+    kill "$pid"
+    wait "$pid" || true
+    grep -c "VirtualThread" "build/${name}.log" | xargs echo "pinning stack traces:" || true
+}
+
+run_mode io-pool cached false
+run_mode virtual-threads thread_per_task true
+run_mode r2dbc thread_per_task true r2dbc
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Сравнение времени старта и потребления памяти (RSS): shadow JAR на JVM против native-image.
+# Требуются ./gradlew shadowJar nativeCompile и запущенная БД (переменные DB_*).
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*-all.jar | head -n 1)}
+NATIVE=${NATIVE:-build/native/nativeCompile/crud}
+PORT=${PORT:-8080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-8081}
+RUNS=${RUNS:-5}
+REQUESTS=${REQUESTS:-2000}
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+# Время до первого успешного ответа /health (служебный порт), RSS сразу после старта и после прогрева запросами
+run_mode() {
+    local name=$1
+    shift
+    echo "=== ${name}"
+    for run in $(seq 1 "$RUNS"); do
+        local start
+        start=$(now_ms)
+        EMPLOYEES_RATE_LIMIT_ENABLED=false MICRONAUT_SERVER_PORT=$PORT MANAGEMENT_PORT=$MANAGEMENT_PORT "$@" \
+            > "build/startup-${name}.log" 2>&1 &
+        local pid=$!
+        until curl -sf "http://localhost:${MANAGEMENT_PORT}/health" > /dev/null; do sleep 0.01; done
+        local ready=$(( $(now_ms) - start ))
+        local rss_start
+        rss_start=$(rss_mb "$pid")
+
+        for _ in $(seq 1 "$REQUESTS"); do
+            curl -sf "http://localhost:${PORT}/employees?size=50" > /dev/null
+        done
+        local rss_warm
+        rss_warm=$(rss_mb "$pid")
+
+        echo "run ${run}: ready ${ready} ms, RSS ${rss_start} MB после старта, ${rss_warm} MB после ${REQUESTS} запросов"
+        grep -o "Startup completed in [0-9]*ms" "build/startup-${name}.log" || true
+
+        kill "$pid"
+        wait "$pid" || true
+    done
+}
+
+run_mode jvm java -jar "$JAR"
+run_mode native "$NATIVE"
@@ -0,0 +1,6 @@
+#!/usr/bin/env bash
+# Выполняется образом postgres при первой инициализации тома db: разрешает потоковую репликацию
+# для сервиса db-replica (профиль replica в docker-compose.yml). Уже созданный том нужно пересоздать.
+set -euo pipefail
+
+echo "host replication ${POSTGRES_USER} all scram-sha-256" >> "${PGDATA}/pg_hba.conf"
@@ -0,0 +1,14 @@
+#!/usr/bin/env bash
+# Точка входа db-replica: при пустом томе копирует основную БД через pg_basebackup и запускается
+# как горячий резерв (standby.signal и primary_conninfo создаёт ключ -R), затем догоняет db потоковой репликацией.
+set -euo pipefail
+
+if [ ! -s "${PGDATA}/PG_VERSION" ]; then
+    until pg_basebackup -h db -U "${PGUSER}" -D "${PGDATA}" -R -X stream; do
+        echo "Ожидание основной БД для pg_basebackup..."
+        sleep 2
+    done
+    chmod 0700 "${PGDATA}"
+fi
+
+exec postgres
@@ -0,0 +1,31 @@
+package com.example.crud;
+
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Общий контекст Micronaut для бенчмарков, которым нужны бины (JsonMapper, Validator).
+ * Синглтоны создаются лениво, а задачи @Scheduled отключены в application-benchmark.yml,
+ * поэтому подключение к БД не открывается.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    public ApplicationContext context;
+
+    @Setup
+    public void start() {
+        context = ApplicationContext.builder()
+                .environments("benchmark")
+                .eagerInitSingletons(false)
+                .start();
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud;
+
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static EmployeeDTO employeeDTO(int i) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName("Иван");
+        dto.setLastName("Иванов");
+        dto.setMiddleName("Петрович");
+        dto.setLogin("ivanov" + i);
+        dto.setPassword("securePass123");
+        dto.setEmail("ivanov" + i + "@example.com");
+        return dto;
+    }
+
+    public static Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setId((long) i);
+        employee.setFirstName("Иван");
+        employee.setLastName("Иванов");
+        employee.setMiddleName("Петрович");
+        employee.setLogin("ivanov" + i);
+        employee.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWXvDNe2L8sCkpAJq3lu2BiVx9.y");
+        employee.setEmail("ivanov" + i + "@example.com");
+        return employee;
+    }
+
+    public static List<EmployeeDTO> employeeDTOs(int size) {
+        List<EmployeeDTO> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(employeeDTO(i));
+        }
+        return list;
+    }
+
+    public static List<Employee> employees(int size) {
+        List<Employee> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(employee(i));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.crud;
+
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeDTO;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final Argument<List<Employee>> EMPLOYEE_LIST = Argument.listOf(Employee.class);
+    private static final Argument<List<EmployeeDTO>> EMPLOYEE_DTO_LIST = Argument.listOf(EmployeeDTO.class);
+    private static final Argument<List<EmployeeView>> EMPLOYEE_VIEW_LIST = Argument.listOf(EmployeeView.class);
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private JsonMapper jsonMapper;
+    private List<Employee> employees;
+    private List<EmployeeDTO> employeeDTOs;
+    private List<EmployeeView> employeeViews;
+    private byte[] employeesJson;
+    private byte[] employeeDTOsJson;
+
+    @Setup
+    public void setUp(BenchmarkContext benchmarkContext) throws IOException {
+        jsonMapper = benchmarkContext.context.getBean(JsonMapper.class);
+        employees = BenchmarkData.employees(size);
+        employeeDTOs = BenchmarkData.employeeDTOs(size);
+        employeeViews = employees.stream().map(EmployeeView::from).toList();
+        employeesJson = jsonMapper.writeValueAsBytes(employees);
+        employeeDTOsJson = jsonMapper.writeValueAsBytes(employeeDTOs);
+    }
+
+    @Benchmark
+    public byte[] encodeEmployees() throws IOException {
+        return jsonMapper.writeValueAsBytes(EMPLOYEE_LIST, employees);
+    }
+
+    @Benchmark
+    public List<Employee> decodeEmployees() throws IOException {
+        return jsonMapper.readValue(employeesJson, EMPLOYEE_LIST);
+    }
+
+    // Сравнение с encodeEmployees показывает выигрыш от проекции без пароля (аллокации — через -prof gc)
+    @Benchmark
+    public byte[] encodeEmployeeViews() throws IOException {
+        return jsonMapper.writeValueAsBytes(EMPLOYEE_VIEW_LIST, employeeViews);
+    }
+
+    @Benchmark
+    public byte[] encodeEmployeeDTOs() throws IOException {
+        return jsonMapper.writeValueAsBytes(EMPLOYEE_DTO_LIST, employeeDTOs);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> decodeEmployeeDTOs() throws IOException {
+        return jsonMapper.readValue(employeeDTOsJson, EMPLOYEE_DTO_LIST);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.crud.controller;
+
+import com.example.crud.BenchmarkData;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapDtoToEntityBenchmark {
+
+    private EmployeeDTO dto;
+
+    @Setup
+    public void setUp() {
+        dto = BenchmarkData.employeeDTO(1);
+    }
+
+    @Benchmark
+    public Employee mapDtoToEntity() {
+        Employee employee = new Employee();
+        EmployeeController.mapDtoToEntity(dto, employee);
+        return employee;
+    }
+}
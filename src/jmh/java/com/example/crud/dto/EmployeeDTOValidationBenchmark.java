@@ -0,0 +1,49 @@
+package com.example.crud.dto;
+
+import com.example.crud.BenchmarkContext;
+import com.example.crud.BenchmarkData;
+import io.micronaut.validation.validator.Validator;
+import jakarta.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeDTOValidationBenchmark {
+
+    private Validator validator;
+    private EmployeeDTO valid;
+    private EmployeeDTO invalid;
+
+    @Setup
+    public void setUp(BenchmarkContext benchmarkContext) {
+        validator = benchmarkContext.context.getBean(Validator.class);
+        valid = BenchmarkData.employeeDTO(1);
+        invalid = BenchmarkData.employeeDTO(2);
+        invalid.setEmail("invalid-email");
+        invalid.setPassword("123");
+        // Без сгенерированных метаданных валидации validate ничего не проверяет и бенчмарк измерял бы пустой вызов
+        if (validator.validate(invalid).isEmpty()) {
+            throw new IllegalStateException("Ограничения EmployeeDTO не проверяются валидатором");
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDTO>> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDTO>> validateInvalid() {
+        return validator.validate(invalid);
+    }
+}
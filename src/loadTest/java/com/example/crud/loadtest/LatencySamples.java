@@ -0,0 +1,56 @@
+package com.example.crud.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Задержки одного эндпоинта в наносекундах. Каждый поток нагрузки пишет в свои экземпляры,
+ * поэтому синхронизация не нужна; после прогона экземпляры объединяются через {@link #addAll}.
+ */
+final class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    LoadTestReport.EndpointStats toStats(double seconds) {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return new LoadTestReport.EndpointStats(
+                size,
+                errors,
+                size / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99)
+        );
+    }
+
+    // Метод nearest-rank
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.crud.loadtest;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Результат прогона по эндпоинтам; в том же формате хранится базовая линия.
+ * В environment записаны машина, JVM, версия PostgreSQL и параметры прогона: сравнивать имеет смысл
+ * только прогоны в одинаковом окружении.
+ */
+record LoadTestReport(int concurrency, double durationSeconds, double writeRatio,
+                      @Nullable Map<String, String> environment, Map<String, EndpointStats> endpoints) {
+
+    record EndpointStats(long requests, long errors, double throughput, double p50, double p95, double p99) {
+    }
+
+    /**
+     * Сравнивает прогон с базовой линией: регрессией считается падение пропускной способности
+     * или рост p95/p99 больше чем на долю threshold, а также ошибки там, где их не было.
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        baseline.endpoints().forEach((endpoint, expected) -> {
+            EndpointStats actual = endpoints.get(endpoint);
+            if (actual == null) {
+                regressions.add(endpoint + ": нет данных в текущем прогоне");
+                return;
+            }
+            if (actual.throughput() < expected.throughput() * (1 - threshold)) {
+                regressions.add(String.format("%s: пропускная способность %.1f req/s против %.1f",
+                        endpoint, actual.throughput(), expected.throughput()));
+            }
+            if (actual.p95() > expected.p95() * (1 + threshold)) {
+                regressions.add(String.format("%s: p95 %.2f мс против %.2f", endpoint, actual.p95(), expected.p95()));
+            }
+            if (actual.p99() > expected.p99() * (1 + threshold)) {
+                regressions.add(String.format("%s: p99 %.2f мс против %.2f", endpoint, actual.p99(), expected.p99()));
+            }
+            if (expected.errors() == 0 && actual.errors() > 0) {
+                regressions.add(endpoint + ": " + actual.errors() + " ошибок");
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * Параметры окружения, которые отличаются от базовой линии; при расхождении сравнение не показательно.
+     */
+    List<String> environmentDifferences(LoadTestReport baseline) {
+        List<String> differences = new ArrayList<>();
+        if (environment == null || baseline.environment() == null) {
+            return differences;
+        }
+        baseline.environment().forEach((key, expected) -> {
+            String actual = environment.get(key);
+            if (!expected.equals(actual)) {
+                differences.add(key + ": " + actual + " против " + expected);
+            }
+        });
+        return differences;
+    }
+
+    /**
+     * Таблица пропускной способности и p95 двух прогонов по общим эндпоинтам, например JPA против R2DBC.
+     */
+    String toComparisonTable(String label, LoadTestReport other, String otherLabel) {
+        StringBuilder table = new StringBuilder(String.format("%-28s %12s %12s %8s %12s %12s%n",
+                "endpoint", label + " req/s", otherLabel + " req/s", "ratio", label + " p95", otherLabel + " p95"));
+        endpoints.forEach((endpoint, stats) -> {
+            EndpointStats otherStats = other.endpoints().get(endpoint);
+            if (otherStats == null) {
+                return;
+            }
+            table.append(String.format("%-28s %12.1f %12.1f %8.2f %12.2f %12.2f%n",
+                    endpoint, stats.throughput(), otherStats.throughput(),
+                    otherStats.throughput() == 0 ? 0 : stats.throughput() / otherStats.throughput(),
+                    stats.p95(), otherStats.p95()));
+        });
+        return table.toString();
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-28s %10s %8s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        endpoints.forEach((endpoint, stats) -> table.append(String.format("%-28s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.requests(), stats.errors(), stats.throughput(), stats.p50(), stats.p95(), stats.p99())));
+        return table.toString();
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.crud.loadtest;
+
+import com.example.crud.Application;
+import com.example.crud.config.DataAccess;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.management.OperatingSystemMXBean;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.Micronaut;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Нагрузочный прогон API сотрудников: поднимает приложение в окружении loadtest поверх PostgreSQL
+ * (контейнер Testcontainers или БД из loadtest.jdbc-url) со схемой и индексами из миграций Flyway, заполняет таблицу, выполняет смешанную нагрузку чтения и записи заданным числом параллельных клиентов
+ * и сравнивает пропускную способность и p50/p95/p99 по эндпоинтам с сохранённой базовой линией.
+ * Завершается с кодом 1 при регрессии больше порога loadtest.threshold.
+ * <p>
+ * При loadtest.data-access=r2dbc приложение запускается в окружении r2dbc; R2DBC-вариант не поддерживает PATCH
+ * и пакетный импорт, поэтому таблица заполняется одиночными POST, а в смеси записей остаются POST и DELETE.
+ * С loadtest.compare-with результат сравнивается с другим прогоном (например, JPA) без проверки базовой линии.
+ */
+public final class LoadTestRunner {
+
+    static final String LIST = "GET /employees";
+    static final String GET_BY_ID = "GET /employees/{id}";
+    static final String CREATE = "POST /employees";
+    static final String PATCH = "PATCH /employees/{id}";
+    static final String DELETE = "DELETE /employees/{id}";
+
+    private static final List<String> ENDPOINTS = List.of(LIST, GET_BY_ID, CREATE, PATCH, DELETE);
+
+    // Та же версия PostgreSQL, что в docker-compose.yml
+    private static final String POSTGRES_IMAGE = "postgres:16";
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, String> environment;
+
+    private long[] seededIds;
+
+    LoadTestRunner(LoadTestSettings settings, URI baseUri, Map<String, String> environment) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.environment = environment;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int exitCode;
+        try (PostgreSQLContainer<?> postgres = settings.jdbcUrl() == null ? new PostgreSQLContainer<>(POSTGRES_IMAGE) : null) {
+            Map<String, Object> datasource = new LinkedHashMap<>();
+            String r2dbcUrl;
+            if (postgres != null) {
+                postgres.start();
+                datasource.put("datasources.default.url", postgres.getJdbcUrl());
+                datasource.put("datasources.default.username", postgres.getUsername());
+                datasource.put("datasources.default.password", postgres.getPassword());
+                r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(postgres.getHost(),
+                        postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), postgres.getDatabaseName());
+            } else {
+                datasource.put("datasources.default.url", settings.jdbcUrl());
+                datasource.put("datasources.default.username", settings.jdbcUsername());
+                datasource.put("datasources.default.password", settings.jdbcPassword());
+                r2dbcUrl = settings.jdbcUrl().replaceFirst("^jdbc:", "r2dbc:");
+            }
+            List<String> environments = new ArrayList<>(List.of("loadtest"));
+            if (settings.r2dbc()) {
+                environments.add(DataAccess.R2DBC);
+                datasource.put("r2dbc.datasources.default.url", r2dbcUrl);
+                datasource.put("r2dbc.datasources.default.username", datasource.get("datasources.default.username"));
+                datasource.put("r2dbc.datasources.default.password", datasource.get("datasources.default.password"));
+            }
+            try (ApplicationContext context = Micronaut.build(args)
+                    .mainClass(Application.class)
+                    .environments(environments.toArray(String[]::new))
+                    .properties(datasource)
+                    .start()) {
+                URI baseUri = context.getBean(EmbeddedServer.class).getURI();
+                exitCode = new LoadTestRunner(settings, baseUri, environment(settings, datasource)).execute();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    int execute() throws Exception {
+        seed();
+        LoadTestReport report = run();
+        System.out.print(report.toTable());
+
+        Files.createDirectories(settings.resultsFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(settings.resultsFile().toFile(), report);
+
+        if (settings.compareWith() != null) {
+            if (!Files.exists(settings.compareWith())) {
+                System.out.println("Результаты для сравнения не найдены: " + settings.compareWith());
+                return 0;
+            }
+            LoadTestReport other = objectMapper.readValue(settings.compareWith().toFile(), LoadTestReport.class);
+            String otherLabel = settings.r2dbc() ? DataAccess.JPA : "other";
+            System.out.print(report.toComparisonTable(settings.dataAccess(), other, otherLabel));
+            return 0;
+        }
+        if (settings.updateBaseline()) {
+            objectMapper.writeValue(settings.baselineFile().toFile(), report);
+            System.out.println("Базовая линия обновлена: " + settings.baselineFile());
+            return 0;
+        }
+        if (!Files.exists(settings.baselineFile())) {
+            System.out.println("Базовая линия не найдена, сравнение пропущено. Запишите её: ./gradlew loadTest -Ploadtest.update-baseline=true");
+            return 0;
+        }
+        LoadTestReport baseline = objectMapper.readValue(settings.baselineFile().toFile(), LoadTestReport.class);
+        report.environmentDifferences(baseline)
+                .forEach(difference -> System.out.println("Окружение отличается от базовой линии: " + difference));
+        List<String> regressions = report.regressionsAgainst(baseline, settings.threshold());
+        regressions.forEach(regression -> System.out.println("РЕГРЕССИЯ " + regression));
+        return regressions.isEmpty() ? 0 : 1;
+    }
+
+    // Начальные данные создаются одним пакетным запросом, их ID используются для чтения и частичного обновления
+    private void seed() throws IOException, InterruptedException {
+        List<Map<String, String>> employees = new ArrayList<>(settings.seedSize());
+        for (int i = 0; i < settings.seedSize(); i++) {
+            employees.add(employeeJson("seed" + i));
+        }
+        if (settings.r2dbc()) {
+            for (Map<String, String> employee : employees) {
+                send(HttpRequest.newBuilder(baseUri.resolve("/employees"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(employee))));
+            }
+        } else {
+            send(HttpRequest.newBuilder(baseUri.resolve("/employees/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(employees))));
+        }
+
+        List<Long> ids = new ArrayList<>(settings.seedSize());
+        long after = 0;
+        while (ids.size() < settings.seedSize()) {
+            JsonNode page = objectMapper.readTree(send(HttpRequest.newBuilder(
+                    baseUri.resolve("/employees?size=1000&after=" + after)).GET()).body());
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(employee -> ids.add(employee.get("id").asLong()));
+            after = ids.get(ids.size() - 1);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Не удалось заполнить таблицу сотрудников");
+        }
+        seededIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private LoadTestReport run() throws Exception {
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+
+        List<Future<Map<String, LatencySamples>>> workers = new ArrayList<>(settings.concurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < settings.concurrency(); worker++) {
+                int workerId = worker;
+                workers.add(executor.submit(() -> work(workerId, warmupEnd, end)));
+            }
+        }
+
+        Map<String, LatencySamples> merged = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> merged.put(endpoint, new LatencySamples()));
+        for (Future<Map<String, LatencySamples>> worker : workers) {
+            worker.get().forEach((endpoint, samples) -> merged.get(endpoint).addAll(samples));
+        }
+
+        double seconds = settings.duration().toMillis() / 1000.0;
+        Map<String, LoadTestReport.EndpointStats> endpoints = new LinkedHashMap<>();
+        merged.forEach((endpoint, samples) -> endpoints.put(endpoint, samples.toStats(seconds)));
+        return new LoadTestReport(settings.concurrency(), seconds, settings.writeRatio(), environment, endpoints);
+    }
+
+    // Один клиент: задержки учитываются только после прогрева; удаляются только сотрудники, созданные этим клиентом
+    private Map<String, LatencySamples> work(int workerId, long warmupEnd, long end) {
+        Map<String, LatencySamples> samples = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> samples.put(endpoint, new LatencySamples()));
+        List<Long> created = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sequence = 0;
+
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            String endpoint;
+            HttpRequest.Builder request;
+            if (random.nextDouble() >= settings.writeRatio()) {
+                if (random.nextInt(4) == 0) {
+                    endpoint = LIST;
+                    request = HttpRequest.newBuilder(baseUri.resolve(
+                            "/employees?size=50&after=" + seededIds[random.nextInt(seededIds.length)])).GET();
+                } else {
+                    endpoint = GET_BY_ID;
+                    request = HttpRequest.newBuilder(baseUri.resolve(
+                            "/employees/" + seededIds[random.nextInt(seededIds.length)])).GET();
+                }
+            } else {
+                int kind = random.nextInt(10);
+                if (kind < 3 && !created.isEmpty()) {
+                    endpoint = DELETE;
+                    request = HttpRequest.newBuilder(baseUri.resolve(
+                            "/employees/" + created.remove(created.size() - 1))).DELETE();
+                } else if (kind < 6 && !settings.r2dbc()) {
+                    endpoint = PATCH;
+                    request = HttpRequest.newBuilder(baseUri.resolve(
+                                    "/employees/" + seededIds[random.nextInt(seededIds.length)]))
+                            .header("Content-Type", "application/json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                    "{\"middleName\":\"Нагрузка" + sequence++ + "\"}"));
+                } else {
+                    endpoint = CREATE;
+                    request = HttpRequest.newBuilder(baseUri.resolve("/employees"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(
+                                    toJson(employeeJson("lt" + workerId + "_" + sequence++))));
+                }
+            }
+
+            LatencySamples endpointSamples = samples.get(endpoint);
+            try {
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                long latency = System.nanoTime() - now;
+                if (endpoint.equals(CREATE) && response.statusCode() == 201) {
+                    created.add(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+                if (now >= warmupEnd) {
+                    if (response.statusCode() < 400) {
+                        endpointSamples.record(latency);
+                    } else {
+                        endpointSamples.recordError();
+                    }
+                }
+            } catch (IOException e) {
+                if (now >= warmupEnd) {
+                    endpointSamples.recordError();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return samples;
+    }
+
+    // Машина, JVM, PostgreSQL и параметры, от которых зависят абсолютные значения задержек и пропускной способности
+    private static Map<String, String> environment(LoadTestSettings settings, Map<String, Object> datasource)
+            throws IOException, SQLException {
+        Map<String, String> environment = new LinkedHashMap<>();
+        environment.put("cpu", cpuModel());
+        environment.put("cpus", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof OperatingSystemMXBean os) {
+            environment.put("memory", (os.getTotalMemorySize() >> 30) + " GiB");
+        }
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        environment.put("jvm", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        environment.put("heap", (Runtime.getRuntime().maxMemory() >> 20) + " MiB");
+        try (Connection connection = DriverManager.getConnection((String) datasource.get("datasources.default.url"),
+                (String) datasource.get("datasources.default.username"),
+                (String) datasource.get("datasources.default.password"))) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            environment.put("database", metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion());
+        }
+        environment.put("dataAccess", settings.dataAccess());
+        environment.put("seedSize", String.valueOf(settings.seedSize()));
+        environment.put("warmup", settings.warmup().toString());
+        return environment;
+    }
+
+    private static String cpuModel() throws IOException {
+        Path cpuInfo = Path.of("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try (Stream<String> lines = Files.lines(cpuInfo)) {
+                Optional<String> model = lines.filter(line -> line.startsWith("model name"))
+                        .map(line -> line.substring(line.indexOf(':') + 1).trim())
+                        .findFirst();
+                if (model.isPresent()) {
+                    return model.get();
+                }
+            }
+        }
+        return System.getProperty("os.arch");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.build().uri() + " вернул " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> employeeJson(String login) {
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("firstName", "Иван");
+        employee.put("lastName", "Иванов");
+        employee.put("middleName", "Петрович");
+        employee.put("login", login);
+        employee.put("password", "securePass123");
+        employee.put("email", login + "@example.com");
+        return employee;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.crud.loadtest;
+
+import com.example.crud.config.DataAccess;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Параметры нагрузочного прогона. Задаются системными свойствами loadtest.*,
+ * задача Gradle loadTest пробрасывает их из -P.
+ */
+record LoadTestSettings(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        double writeRatio,
+        int seedSize,
+        double threshold,
+        Path resultsFile,
+        Path baselineFile,
+        boolean updateBaseline,
+        // Стек доступа к данным приложения: jpa или r2dbc (окружение r2dbc, ReactiveEmployeeController)
+        String dataAccess,
+        // Результаты другого прогона для сравнения вместо проверки базовой линии, например JPA против R2DBC
+        @Nullable Path compareWith,
+        // Внешняя БД вместо контейнера, например эталонный стенд; схему в ней создают те же миграции
+        @Nullable String jdbcUrl,
+        @Nullable String jdbcUsername,
+        @Nullable String jdbcPassword
+) {
+
+    boolean r2dbc() {
+        return DataAccess.R2DBC.equals(dataAccess);
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s")),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s")),
+                Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.2")),
+                Integer.getInteger("loadtest.seed-size", 1000),
+                Double.parseDouble(System.getProperty("loadtest.threshold", "0.2")),
+                Path.of(System.getProperty("loadtest.results", "build/results/loadtest/results.json")),
+                Path.of(System.getProperty("loadtest.baseline", "src/loadTest/resources/loadtest-baseline.json")),
+                Boolean.getBoolean("loadtest.update-baseline"),
+                System.getProperty("loadtest.data-access", DataAccess.JPA),
+                Optional.ofNullable(System.getProperty("loadtest.compare-with")).map(Path::of).orElse(null),
+                System.getProperty("loadtest.jdbc-url"),
+                System.getProperty("loadtest.jdbc-username"),
+                System.getProperty("loadtest.jdbc-password")
+        );
+    }
+}
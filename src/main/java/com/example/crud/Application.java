@@ -1,5 +1,11 @@
 package com.example.crud;
 
+import com.example.crud.domain.Employee;
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.dto.CredentialsDTO;
+import com.example.crud.dto.EmployeeDTO;
+import com.example.crud.dto.EmployeePatchDTO;
+import io.micronaut.core.annotation.TypeHint;
 import io.micronaut.runtime.Micronaut;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
@@ -15,6 +21,22 @@ import io.swagger.v3.oas.annotations.info.License;
                 contact = @Contact(url = "https://example.com", name = "Support", email = "support@example.com")
         )
 )
+// Hibernate обращается к полям и конструкторам сущностей через reflection; в native-image их нужно объявить заранее.
+// То же для DTO тел запросов, которые разбираются и валидируются по их свойствам
+@TypeHint(
+        value = {
+                Employee.class,
+                EmployeeOutboxEvent.class,
+                EmployeeDTO.class,
+                EmployeePatchDTO.class,
+                CredentialsDTO.class
+        },
+        accessType = {
+                TypeHint.AccessType.ALL_DECLARED_CONSTRUCTORS,
+                TypeHint.AccessType.ALL_DECLARED_FIELDS,
+                TypeHint.AccessType.ALL_PUBLIC_METHODS
+        }
+)
 public class Application {
     public static void main(String[] args) {
         Micronaut.run(Application.class, args);
@@ -0,0 +1,45 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки проверки учётных данных: кеш недавно подтверждённых пар логин/пароль.
+ */
+@ConfigurationProperties("employees.authentication")
+public class AuthenticationConfiguration {
+
+    private boolean cacheEnabled = true;
+
+    private long cacheMaximumSize = 10_000;
+
+    // Короткое время жизни: кеш гасит повторные попытки клиентов, а не заменяет проверку пароля
+    private Duration cacheExpireAfterWrite = Duration.ofMinutes(1);
+
+    // Геттеры и сеттеры
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public long getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(long cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    public Duration getCacheExpireAfterWrite() {
+        return cacheExpireAfterWrite;
+    }
+
+    public void setCacheExpireAfterWrite(Duration cacheExpireAfterWrite) {
+        this.cacheExpireAfterWrite = cacheExpireAfterWrite;
+    }
+}
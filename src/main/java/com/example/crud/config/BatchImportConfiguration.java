@@ -0,0 +1,32 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Настройки пакетного импорта сотрудников.
+ */
+@ConfigurationProperties("employees.batch")
+public class BatchImportConfiguration {
+
+    private int chunkSize = 500;
+
+    private int hashParallelism = 4;
+
+    // Геттеры и сеттеры
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getHashParallelism() {
+        return hashParallelism;
+    }
+
+    public void setHashParallelism(int hashParallelism) {
+        this.hashParallelism = hashParallelism;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Настройки пула соединений сверх стандартных свойств Hikari: автоматический расчёт размера
+ * и фоновый контроль ожидания соединений.
+ */
+@ConfigurationProperties("employees.connection-pool")
+public class ConnectionPoolConfiguration {
+
+    // Рассчитывать размер пула вместо datasources.default.maximum-pool-size
+    private boolean autoSize = false;
+
+    // Число параллельно работающих дисков БД в формуле HikariCP: ядра * 2 + диски
+    @Min(0)
+    private int effectiveSpindleCount = 1;
+
+    private boolean monitorEnabled = true;
+
+    // Предупреждение пишется, если соединения ждут больше потоков, чем указано
+    @Min(0)
+    private int awaitingThreshold = 0;
+
+    // Геттеры и сеттеры
+
+    public boolean isAutoSize() {
+        return autoSize;
+    }
+
+    public void setAutoSize(boolean autoSize) {
+        this.autoSize = autoSize;
+    }
+
+    public int getEffectiveSpindleCount() {
+        return effectiveSpindleCount;
+    }
+
+    public void setEffectiveSpindleCount(int effectiveSpindleCount) {
+        this.effectiveSpindleCount = effectiveSpindleCount;
+    }
+
+    public boolean isMonitorEnabled() {
+        return monitorEnabled;
+    }
+
+    public void setMonitorEnabled(boolean monitorEnabled) {
+        this.monitorEnabled = monitorEnabled;
+    }
+
+    public int getAwaitingThreshold() {
+        return awaitingThreshold;
+    }
+
+    public void setAwaitingThreshold(int awaitingThreshold) {
+        this.awaitingThreshold = awaitingThreshold;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.crud.config;
+
+import io.micronaut.configuration.jdbc.hikari.DatasourceConfiguration;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.scheduling.executor.ExecutorConfiguration;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Рассчитывает размер пула Hikari до создания DataSource, если включено employees.connection-pool.auto-size.
+ * Базовое значение — формула HikariCP (ядра * 2 + диски); если исполнитель employees ограничен
+ * фиксированным числом потоков, больше соединений им не понадобится. Пул делается фиксированным
+ * (minimum-idle = maximum-pool-size), чтобы при всплеске нагрузки не тратить время на открытие соединений.
+ */
+@Singleton
+public class ConnectionPoolSizing implements BeanCreatedEventListener<DatasourceConfiguration> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPoolSizing.class);
+
+    private final ConnectionPoolConfiguration configuration;
+    private final Optional<ExecutorConfiguration> employeesExecutor;
+
+    public ConnectionPoolSizing(
+            ConnectionPoolConfiguration configuration,
+            @Named(EmployeeExecutors.EMPLOYEES) Optional<ExecutorConfiguration> employeesExecutor
+    ) {
+        this.configuration = configuration;
+        this.employeesExecutor = employeesExecutor;
+    }
+
+    @Override
+    public DatasourceConfiguration onCreated(BeanCreatedEvent<DatasourceConfiguration> event) {
+        DatasourceConfiguration datasource = event.getBean();
+        // Размер пула выгрузки задаётся явно: он ограничен числом одновременных выгрузок, а не потоков
+        if (!configuration.isAutoSize() || ExportConfiguration.DATASOURCE.equals(datasource.getName())) {
+            return datasource;
+        }
+
+        int size = Runtime.getRuntime().availableProcessors() * 2 + configuration.getEffectiveSpindleCount();
+        Optional<Integer> executorThreads = employeesExecutor.flatMap(ConnectionPoolSizing::boundedThreads);
+        if (executorThreads.isPresent()) {
+            size = Math.min(size, executorThreads.get());
+        }
+
+        datasource.setMaximumPoolSize(size);
+        datasource.setMinimumIdle(size);
+        LOG.info("Размер пула соединений {}: {} (потоков исполнителя employees: {})",
+                datasource.getName(), size, executorThreads.map(String::valueOf).orElse("не ограничено"));
+        return datasource;
+    }
+
+    // Виртуальные потоки и cached-пул не ограничивают параллелизм
+    private static Optional<Integer> boundedThreads(ExecutorConfiguration executor) {
+        if (executor.isVirtual()) {
+            return Optional.empty();
+        }
+        return switch (executor.getType()) {
+            case FIXED -> Optional.ofNullable(executor.getNumberOfThreads());
+            case WORK_STEALING -> Optional.ofNullable(executor.getParallelism());
+            case SCHEDULED -> Optional.ofNullable(executor.getCorePoolSize());
+            default -> Optional.empty();
+        };
+    }
+}
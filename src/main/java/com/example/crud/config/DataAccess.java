@@ -0,0 +1,13 @@
+package com.example.crud.config;
+
+/**
+ * Выбор стека доступа к данным: блокирующий JPA (по умолчанию) или реактивный R2DBC.
+ */
+public interface DataAccess {
+
+    String PROPERTY = "employees.data-access";
+
+    String JPA = "jpa";
+
+    String R2DBC = "r2dbc";
+}
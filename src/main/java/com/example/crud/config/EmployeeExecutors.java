@@ -0,0 +1,10 @@
+package com.example.crud.config;
+
+/**
+ * Имена исполнителей, на которых выполняются блокирующие обработчики сотрудников.
+ * Тип исполнителя (виртуальные потоки или пул) задаётся в micronaut.executors.employees.
+ */
+public interface EmployeeExecutors {
+
+    String EMPLOYEES = "employees";
+}
@@ -0,0 +1,56 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Настройки выгрузки сотрудников через COPY.
+ */
+@ConfigurationProperties("employees.export")
+public class ExportConfiguration {
+
+    // Выгрузка берёт соединения из отдельного пула datasources.export, чтобы не занимать основной пул надолго
+    public static final String DATASOURCE = "export";
+
+    // Строки COPY склеиваются в куски примерно такого размера (байт) перед записью в ответ
+    @Min(1024)
+    private int bufferSize = 64 * 1024;
+
+    // Сверх этого числа одновременных выгрузок новые запросы получают 503; не больше размера пула datasources.export
+    @Min(1)
+    private int maxConcurrent = 2;
+
+    // Разрешение, взятое до ответа, возвращается, если тело выгрузки так и не начали читать за это время
+    // (клиент отключился или ответ не дошёл до отправки)
+    @NotNull
+    private Duration subscribeTimeout = Duration.ofSeconds(10);
+
+    // Геттеры и сеттеры
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public Duration getSubscribeTimeout() {
+        return subscribeTimeout;
+    }
+
+    public void setSubscribeTimeout(Duration subscribeTimeout) {
+        this.subscribeTimeout = subscribeTimeout;
+    }
+}
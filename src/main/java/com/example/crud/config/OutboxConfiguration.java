@@ -0,0 +1,70 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.validation.constraints.Min;
+
+import java.time.Duration;
+
+/**
+ * Настройки журнала изменений сотрудников (transactional outbox) и его публикации.
+ */
+@ConfigurationProperties("employees.outbox")
+public class OutboxConfiguration {
+
+    // Фоновая публикация и лента /employees/changes; при false события только пишутся в журнал
+    private boolean feedEnabled = true;
+
+    // Назначение позиций новым событиям; требует PostgreSQL (advisory-блокировки)
+    private boolean publisherEnabled = true;
+
+    @Min(1)
+    private int batchSize = 500;
+
+    // Сколько последних событий получает новый подписчик SSE, чтобы не потерять события между историей и живым потоком
+    @Min(1)
+    private int replaySize = 1000;
+
+    private Duration retention = Duration.ofDays(7);
+
+    // Геттеры и сеттеры
+
+    public boolean isFeedEnabled() {
+        return feedEnabled;
+    }
+
+    public void setFeedEnabled(boolean feedEnabled) {
+        this.feedEnabled = feedEnabled;
+    }
+
+    public boolean isPublisherEnabled() {
+        return publisherEnabled;
+    }
+
+    public void setPublisherEnabled(boolean publisherEnabled) {
+        this.publisherEnabled = publisherEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getReplaySize() {
+        return replaySize;
+    }
+
+    public void setReplaySize(int replaySize) {
+        this.replaySize = replaySize;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Настройки постраничной выдачи списка сотрудников.
+ */
+@ConfigurationProperties("employees.pagination")
+public class PaginationConfiguration {
+
+    private int defaultSize = 100;
+
+    private int maxSize = 1000;
+
+    private int streamChunkSize = 500;
+
+    /**
+     * Приводит запрошенный клиентом размер страницы к допустимому диапазону.
+     */
+    public int resolvePageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    // Геттеры и сеттеры
+
+    public int getDefaultSize() {
+        return defaultSize;
+    }
+
+    public void setDefaultSize(int defaultSize) {
+        this.defaultSize = defaultSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getStreamChunkSize() {
+        return streamChunkSize;
+    }
+
+    public void setStreamChunkSize(int streamChunkSize) {
+        this.streamChunkSize = streamChunkSize;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Настройки хеширования паролей: стоимость BCrypt и размеры выделенных пулов хеширования и проверки.
+ */
+@ConfigurationProperties("employees.password-hashing")
+public class PasswordHashingConfiguration {
+
+    @Min(4)
+    @Max(31)
+    private int cost = 10;
+
+    @Min(1)
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    @Min(1)
+    private int queueCapacity = 64;
+
+    // Пул проверки паролей при входе (POST /employees/authenticate), отдельный от пула хеширования
+    @Min(1)
+    private int verifyPoolSize = Runtime.getRuntime().availableProcessors();
+
+    @Min(1)
+    private int verifyQueueCapacity = 64;
+
+    // Геттеры и сеттеры
+
+    public int getCost() {
+        return cost;
+    }
+
+    public void setCost(int cost) {
+        this.cost = cost;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getVerifyPoolSize() {
+        return verifyPoolSize;
+    }
+
+    public void setVerifyPoolSize(int verifyPoolSize) {
+        this.verifyPoolSize = verifyPoolSize;
+    }
+
+    public int getVerifyQueueCapacity() {
+        return verifyQueueCapacity;
+    }
+
+    public void setVerifyQueueCapacity(int verifyQueueCapacity) {
+        this.verifyQueueCapacity = verifyQueueCapacity;
+    }
+}
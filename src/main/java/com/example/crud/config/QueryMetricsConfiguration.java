@@ -0,0 +1,34 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки замеров времени запросов к БД.
+ */
+@ConfigurationProperties("employees.query-metrics")
+public class QueryMetricsConfiguration {
+
+    private boolean enabled = true;
+
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    // Геттеры и сеттеры
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Настройки ограничения частоты запросов к /employees (отдельные бюджеты чтения и записи на клиента)
+ * и адаптивного лимита одновременно выполняемых запросов.
+ */
+@ConfigurationProperties("employees.rate-limit")
+public class RateLimitConfiguration {
+
+    private boolean enabled = true;
+
+    // Заголовок с идентификатором клиента (например, X-Api-Key); без него клиент определяется по IP
+    @Nullable
+    private String clientHeader;
+
+    @Min(1)
+    private int readCapacity = 200;
+
+    @Min(1)
+    private int readRefillPerSecond = 100;
+
+    @Min(1)
+    private int writeCapacity = 20;
+
+    @Min(1)
+    private int writeRefillPerSecond = 10;
+
+    // Отдельный бюджет POST /employees/authenticate: проверки входа обычно приходят от шлюза с одного адреса
+    @Min(1)
+    private int authenticateCapacity = 200;
+
+    @Min(1)
+    private int authenticateRefillPerSecond = 100;
+
+    @Min(1)
+    private int maxClients = 100_000;
+
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+
+    @Min(1)
+    private int initialConcurrencyLimit = 100;
+
+    @Min(1)
+    private int minConcurrencyLimit = 10;
+
+    @Min(1)
+    private int maxConcurrencyLimit = 1000;
+
+    // Запрос дольше порога считается признаком перегрузки и уменьшает лимит
+    private Duration targetLatency = Duration.ofMillis(500);
+
+    // Порог для записей отдельный: они включают BCrypt и ожидание в его очереди
+    private Duration writeTargetLatency = Duration.ofSeconds(2);
+
+    @DecimalMin("0.1")
+    @DecimalMax("0.99")
+    private double backoffRatio = 0.9;
+
+    // Долгоживущие потоковые ответы расходуют токены чтения, но не занимают место в лимите одновременных запросов
+    private List<String> unlimitedPaths = List.of(
+            "/employees/stream", "/employees/changes/stream", "/employees/export");
+
+    // Геттеры и сеттеры
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Nullable
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(@Nullable String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public int getReadCapacity() {
+        return readCapacity;
+    }
+
+    public void setReadCapacity(int readCapacity) {
+        this.readCapacity = readCapacity;
+    }
+
+    public int getReadRefillPerSecond() {
+        return readRefillPerSecond;
+    }
+
+    public void setReadRefillPerSecond(int readRefillPerSecond) {
+        this.readRefillPerSecond = readRefillPerSecond;
+    }
+
+    public int getWriteCapacity() {
+        return writeCapacity;
+    }
+
+    public void setWriteCapacity(int writeCapacity) {
+        this.writeCapacity = writeCapacity;
+    }
+
+    public int getWriteRefillPerSecond() {
+        return writeRefillPerSecond;
+    }
+
+    public void setWriteRefillPerSecond(int writeRefillPerSecond) {
+        this.writeRefillPerSecond = writeRefillPerSecond;
+    }
+
+    public int getAuthenticateCapacity() {
+        return authenticateCapacity;
+    }
+
+    public void setAuthenticateCapacity(int authenticateCapacity) {
+        this.authenticateCapacity = authenticateCapacity;
+    }
+
+    public int getAuthenticateRefillPerSecond() {
+        return authenticateRefillPerSecond;
+    }
+
+    public void setAuthenticateRefillPerSecond(int authenticateRefillPerSecond) {
+        this.authenticateRefillPerSecond = authenticateRefillPerSecond;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Duration getClientIdleTimeout() {
+        return clientIdleTimeout;
+    }
+
+    public void setClientIdleTimeout(Duration clientIdleTimeout) {
+        this.clientIdleTimeout = clientIdleTimeout;
+    }
+
+    public int getInitialConcurrencyLimit() {
+        return initialConcurrencyLimit;
+    }
+
+    public void setInitialConcurrencyLimit(int initialConcurrencyLimit) {
+        this.initialConcurrencyLimit = initialConcurrencyLimit;
+    }
+
+    public int getMinConcurrencyLimit() {
+        return minConcurrencyLimit;
+    }
+
+    public void setMinConcurrencyLimit(int minConcurrencyLimit) {
+        this.minConcurrencyLimit = minConcurrencyLimit;
+    }
+
+    public int getMaxConcurrencyLimit() {
+        return maxConcurrencyLimit;
+    }
+
+    public void setMaxConcurrencyLimit(int maxConcurrencyLimit) {
+        this.maxConcurrencyLimit = maxConcurrencyLimit;
+    }
+
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(Duration targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public Duration getWriteTargetLatency() {
+        return writeTargetLatency;
+    }
+
+    public void setWriteTargetLatency(Duration writeTargetLatency) {
+        this.writeTargetLatency = writeTargetLatency;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public List<String> getUnlimitedPaths() {
+        return unlimitedPaths;
+    }
+
+    public void setUnlimitedPaths(List<String> unlimitedPaths) {
+        this.unlimitedPaths = unlimitedPaths;
+    }
+}
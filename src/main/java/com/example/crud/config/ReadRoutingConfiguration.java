@@ -0,0 +1,35 @@
+package com.example.crud.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки маршрутизации чтений между основной БД и репликой.
+ */
+@ConfigurationProperties("employees.read-routing")
+public class ReadRoutingConfiguration {
+
+    // Сколько после изменения сотрудник читается из основной БД: должно перекрывать отставание реплики
+    private Duration primaryAfterWrite = Duration.ofSeconds(5);
+
+    private long maximumTrackedWrites = 100_000;
+
+    // Геттеры и сеттеры
+
+    public Duration getPrimaryAfterWrite() {
+        return primaryAfterWrite;
+    }
+
+    public void setPrimaryAfterWrite(Duration primaryAfterWrite) {
+        this.primaryAfterWrite = primaryAfterWrite;
+    }
+
+    public long getMaximumTrackedWrites() {
+        return maximumTrackedWrites;
+    }
+
+    public void setMaximumTrackedWrites(long maximumTrackedWrites) {
+        this.maximumTrackedWrites = maximumTrackedWrites;
+    }
+}
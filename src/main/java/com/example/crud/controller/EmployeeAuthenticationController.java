@@ -0,0 +1,57 @@
+package com.example.crud.controller;
+
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.dto.CredentialsDTO;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.service.EmployeeAuthenticationService;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import java.util.concurrent.CompletableFuture;
+
+@Controller("/employees/authenticate")
+@ExecuteOn(EmployeeExecutors.EMPLOYEES)
+@Tag(name = "Сотрудники", description = "Управление данными сотрудников")
+public class EmployeeAuthenticationController {
+
+    private final EmployeeAuthenticationService authenticationService;
+
+    public EmployeeAuthenticationController(EmployeeAuthenticationService authenticationService) {
+        this.authenticationService = authenticationService;
+    }
+
+    @Post
+    @Operation(
+            summary = "Проверить логин и пароль",
+            description = "Проверяет учётные данные сотрудника и возвращает его данные. "
+                    + "Хеш пароля, созданный с устаревшей стоимостью BCrypt, пересчитывается после успешной проверки"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Учётные данные верны",
+            content = @Content(schema = @Schema(implementation = EmployeeView.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Не указан логин или пароль"
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Неверный логин или пароль"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул проверки паролей перегружен"
+    )
+    public CompletableFuture<EmployeeView> authenticate(@Body @Valid CredentialsDTO credentials) {
+        return authenticationService.authenticate(credentials.getLogin(), credentials.getPassword());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.crud.controller;
+
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.config.PaginationConfiguration;
+import com.example.crud.dto.EmployeeChange;
+import com.example.crud.service.EmployeeChangeFeed;
+import com.example.crud.service.EmployeeChangePublisher;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Named;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Controller("/employees/changes")
+@Requires(property = "employees.outbox.feed-enabled", notEquals = "false")
+@ExecuteOn(EmployeeExecutors.EMPLOYEES)
+@Tag(name = "Изменения сотрудников", description = "Лента изменений данных сотрудников")
+public class EmployeeChangesController {
+
+    static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final EmployeeChangeFeed feed;
+    private final EmployeeChangePublisher publisher;
+    private final PaginationConfiguration pagination;
+    private final ExecutorService blockingExecutor;
+
+    public EmployeeChangesController(
+            EmployeeChangeFeed feed,
+            EmployeeChangePublisher publisher,
+            PaginationConfiguration pagination,
+            @Named(EmployeeExecutors.EMPLOYEES) ExecutorService blockingExecutor
+    ) {
+        this.feed = feed;
+        this.publisher = publisher;
+        this.pagination = pagination;
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    @Get
+    @Operation(
+            summary = "Получить изменения сотрудников",
+            description = "Возвращает создания, изменения и удаления сотрудников после позиции `since` в порядке публикации. "
+                    + "Позиция для следующего запроса передаётся в заголовке X-Next-Cursor"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Порция изменений",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeChange.class, type = "array"))
+    )
+    public HttpResponse<List<EmployeeChange>> getChanges(
+            @Parameter(name = "since", description = "Позиция последнего полученного изменения", in = ParameterIn.QUERY)
+            @QueryValue @Nullable Long since,
+
+            @Parameter(name = "size", description = "Максимальное число изменений в ответе", in = ParameterIn.QUERY)
+            @QueryValue @Nullable Integer size
+    ) {
+        long position = since == null ? 0L : since;
+        List<EmployeeChange> changes = feed.changesSince(position, pagination.resolvePageSize(size));
+        long next = changes.isEmpty() ? position : changes.get(changes.size() - 1).position();
+        return HttpResponse.ok(changes).header(EmployeeResponses.NEXT_CURSOR_HEADER, String.valueOf(next));
+    }
+
+    @Get(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(
+            summary = "Подписаться на изменения сотрудников",
+            description = "Server-Sent Events: сначала изменения после `since` (или Last-Event-ID при переподключении), "
+                    + "затем новые изменения по мере публикации. id события — позиция в ленте"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Поток изменений",
+            content = @Content(mediaType = "text/event-stream",
+                    schema = @Schema(implementation = EmployeeChange.class))
+    )
+    public Publisher<Event<EmployeeChange>> stream(
+            @Parameter(name = "since", description = "Позиция, после которой начинать; без неё — только новые изменения",
+                    in = ParameterIn.QUERY)
+            @QueryValue @Nullable Long since,
+
+            @Parameter(name = LAST_EVENT_ID_HEADER, description = "id последнего полученного события", in = ParameterIn.HEADER)
+            @Header(LAST_EVENT_ID_HEADER) @Nullable Long lastEventId
+    ) {
+        Long start = lastEventId != null ? lastEventId : since;
+        int chunkSize = pagination.getStreamChunkSize();
+
+        return Flux.defer(() -> {
+            AtomicLong last = new AtomicLong(start != null ? start : feed.latestPosition());
+            // История читается порциями, затем поток переключается на живые события; повторы отсекаются по позиции
+            // Состояние генератора — позиция последнего прочитанного изменения; -1 означает, что история закончилась
+            Flux<EmployeeChange> history = Flux.<List<EmployeeChange>, Long>generate(last::get, (position, sink) -> {
+                        if (position < 0) {
+                            sink.complete();
+                            return position;
+                        }
+                        List<EmployeeChange> chunk = feed.changesSince(position, chunkSize);
+                        if (chunk.isEmpty()) {
+                            sink.complete();
+                            return position;
+                        }
+                        sink.next(chunk);
+                        return chunk.size() < chunkSize ? -1L : chunk.get(chunk.size() - 1).position();
+                    })
+                    .concatMapIterable(Function.identity());
+            return Flux.concat(history, publisher.live())
+                    .filter(change -> change.position() > last.get())
+                    .doOnNext(change -> last.set(change.position()))
+                    .map(change -> Event.of(change)
+                            .id(String.valueOf(change.position()))
+                            .name(change.type().name().toLowerCase()));
+        }).subscribeOn(Schedulers.fromExecutorService(blockingExecutor));
+    }
+}
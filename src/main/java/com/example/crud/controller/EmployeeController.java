@@ -1,12 +1,29 @@
 package com.example.crud.controller;
 
+import com.example.crud.config.DataAccess;
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.config.PaginationConfiguration;
 import com.example.crud.domain.Employee;
+import com.example.crud.dto.BatchImportResult;
 import com.example.crud.dto.EmployeeDTO;
+import com.example.crud.dto.EmployeePatchDTO;
+import com.example.crud.dto.EmployeeView;
 import com.example.crud.repository.EmployeeRepository;
-import com.example.crud.service.PasswordEncoder;
+import com.example.crud.service.EmployeeImportService;
+import com.example.crud.service.EmployeeLookupCache;
+import com.example.crud.service.EmployeeReadRouter;
+import com.example.crud.service.EmployeeSearchService;
+import com.example.crud.service.EmployeeService;
+import com.example.crud.service.PasswordHashingService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
-import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,40 +33,190 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Named;
+import jakarta.validation.Valid;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import javax.validation.Valid;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Controller("/employees")
-@ExecuteOn(TaskExecutors.IO)
+@Requires(property = DataAccess.PROPERTY, value = DataAccess.JPA, defaultValue = DataAccess.JPA)
+@ExecuteOn(EmployeeExecutors.EMPLOYEES)
 @Tag(name = "Сотрудники", description = "Управление данными сотрудников")
 public class EmployeeController {
 
     private final EmployeeRepository repository;
-    private final PasswordEncoder passwordEncoder;
+    private final EmployeeService employeeService;
+    private final PasswordHashingService passwordHashingService;
+    private final EmployeeLookupCache lookupCache;
+    private final EmployeeReadRouter readRouter;
+    private final EmployeeImportService importService;
+    private final EmployeeSearchService searchService;
+    private final PaginationConfiguration pagination;
+    private final ExecutorService blockingExecutor;
 
     public EmployeeController(
             EmployeeRepository repository,
-            PasswordEncoder passwordEncoder
+            EmployeeService employeeService,
+            PasswordHashingService passwordHashingService,
+            EmployeeLookupCache lookupCache,
+            EmployeeReadRouter readRouter,
+            EmployeeImportService importService,
+            EmployeeSearchService searchService,
+            PaginationConfiguration pagination,
+            @Named(EmployeeExecutors.EMPLOYEES) ExecutorService blockingExecutor
     ) {
         this.repository = repository;
-        this.passwordEncoder = passwordEncoder;
+        this.employeeService = employeeService;
+        this.passwordHashingService = passwordHashingService;
+        this.lookupCache = lookupCache;
+        this.readRouter = readRouter;
+        this.importService = importService;
+        this.searchService = searchService;
+        this.pagination = pagination;
+        this.blockingExecutor = blockingExecutor;
     }
 
     @Get
     @Operation(
-            summary = "Получить всех сотрудников",
-            description = "Возвращает полный список сотрудников в системе"
+            summary = "Получить страницу сотрудников",
+            description = "Возвращает сотрудников, упорядоченных по ID, начиная после курсора `after`. "
+                    + "Если страница заполнена полностью, курсор следующей страницы передаётся в заголовке X-Next-Cursor"
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Успешное получение списка сотрудников",
+            description = "Успешное получение страницы сотрудников",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Employee.class, type = "array"))
+                    schema = @Schema(implementation = EmployeeView.class, type = "array"))
     )
-    public List<Employee> getAll() {
-        return repository.findAll();
+    @ApiResponse(
+            responseCode = "304",
+            description = "Страница не изменилась с момента получения ETag из If-None-Match"
+    )
+    public HttpResponse<List<EmployeeView>> getAll(
+            @Parameter(
+                    name = "after",
+                    description = "ID последнего сотрудника с предыдущей страницы",
+                    in = ParameterIn.QUERY
+            )
+            @QueryValue @Nullable Long after,
+
+            @Parameter(
+                    name = "size",
+                    description = "Размер страницы (ограничен сверху настройкой employees.pagination.max-size)",
+                    in = ParameterIn.QUERY
+            )
+            @QueryValue @Nullable Integer size,
+
+            @Parameter(
+                    name = HttpHeaders.IF_NONE_MATCH,
+                    description = "ETag ранее полученной страницы",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch
+    ) {
+        int pageSize = pagination.resolvePageSize(size);
+        List<EmployeeView> page = readRouter.reads().findPageAfter(after == null ? 0L : after, pageSize);
+        return EmployeeResponses.page(page, pageSize, ifNoneMatch);
+    }
+
+    @Get(value = "/stream", produces = MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Выгрузить всех сотрудников потоком",
+            description = "Возвращает полный список сотрудников JSON-массивом, который пишется в ответ по мере чтения "
+                    + "из БД порциями фиксированного размера, не загружая всю таблицу в память"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Поток сотрудников",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class, type = "array"))
+    )
+    public Publisher<EmployeeView> stream() {
+        int chunkSize = pagination.getStreamChunkSize();
+        // Состояние генератора — id последней выданной строки; -1 означает, что данные закончились
+        return Flux.<List<EmployeeView>, Long>generate(() -> 0L, (lastId, sink) -> {
+                    if (lastId < 0) {
+                        sink.complete();
+                        return lastId;
+                    }
+                    List<EmployeeView> chunk = readRouter.reads().findPageAfter(lastId, chunkSize);
+                    if (chunk.isEmpty()) {
+                        sink.complete();
+                        return lastId;
+                    }
+                    sink.next(chunk);
+                    return chunk.size() < chunkSize ? -1L : chunk.get(chunk.size() - 1).id();
+                })
+                .concatMapIterable(Function.identity())
+                .subscribeOn(Schedulers.fromExecutorService(blockingExecutor));
+    }
+
+    @Get("/search")
+    @Operation(
+            summary = "Найти сотрудников",
+            description = "Фильтрует сотрудников по началу фамилии, имени и отчества и по домену email, "
+                    + "сортирует по выбранному полю. Курсор следующей страницы передаётся в заголовке X-Next-Cursor"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Страница найденных сотрудников",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class, type = "array"))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Некорректное поле или направление сортировки либо курсор"
+    )
+    public HttpResponse<List<EmployeeView>> search(
+            @Parameter(name = "lastName", description = "Начало фамилии", in = ParameterIn.QUERY)
+            @QueryValue @Nullable String lastName,
+
+            @Parameter(name = "firstName", description = "Начало имени", in = ParameterIn.QUERY)
+            @QueryValue @Nullable String firstName,
+
+            @Parameter(name = "middleName", description = "Начало отчества", in = ParameterIn.QUERY)
+            @QueryValue @Nullable String middleName,
+
+            @Parameter(name = "emailDomain", description = "Домен электронной почты, например example.com", in = ParameterIn.QUERY)
+            @QueryValue @Nullable String emailDomain,
+
+            @Parameter(name = "sort", description = "Поле сортировки: id, lastName, firstName, login, email", in = ParameterIn.QUERY)
+            @QueryValue(defaultValue = "lastName") String sort,
+
+            @Parameter(name = "direction", description = "Направление сортировки: asc или desc", in = ParameterIn.QUERY)
+            @QueryValue(defaultValue = "asc") String direction,
+
+            @Parameter(name = "after", description = "Курсор из заголовка X-Next-Cursor предыдущей страницы", in = ParameterIn.QUERY)
+            @QueryValue @Nullable String after,
+
+            @Parameter(name = "size", description = "Размер страницы", in = ParameterIn.QUERY)
+            @QueryValue @Nullable Integer size
+    ) {
+        if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Направление сортировки может быть только asc или desc");
+        }
+        EmployeeSearchService.SearchPage page = searchService.search(
+                new EmployeeSearchService.Criteria(
+                        lastName, firstName, middleName, emailDomain, sort, "asc".equalsIgnoreCase(direction), after),
+                pagination.resolvePageSize(size)
+        );
+
+        MutableHttpResponse<List<EmployeeView>> response = HttpResponse.ok(page.items());
+        if (page.nextCursor() != null) {
+            response.header(EmployeeResponses.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response;
     }
 
     @Get("/{id}")
@@ -61,22 +228,35 @@ public class EmployeeController {
             responseCode = "200",
             description = "Сотрудник найден",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Employee.class))
+                    schema = @Schema(implementation = EmployeeView.class))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Сотрудник не изменился с момента получения ETag из If-None-Match"
     )
     @ApiResponse(
             responseCode = "404",
             description = "Сотрудник с указанным ID не найден"
     )
-    public Optional<Employee> getById(
+    public HttpResponse<EmployeeView> getById(
             @Parameter(
                     name = "id",
                     description = "Идентификатор сотрудника",
                     required = true,
                     in = ParameterIn.PATH
             )
-            Long id
+            Long id,
+
+            @Parameter(
+                    name = HttpHeaders.IF_NONE_MATCH,
+                    description = "ETag ранее полученного представления сотрудника",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch
     ) {
-        return repository.findById(id);
+        EmployeeView employee = lookupCache.findById(id)
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Сотрудник не был найден"));
+        return EmployeeResponses.single(employee, ifNoneMatch);
     }
 
     @Post
@@ -89,30 +269,75 @@ public class EmployeeController {
             responseCode = "201",
             description = "Сотрудник успешно создан",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Employee.class))
+                    schema = @Schema(implementation = EmployeeView.class))
     )
     @ApiResponse(
             responseCode = "400",
             description = "Некорректные входные данные или нарушение уникальности"
     )
-    public Employee create(
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул хеширования паролей перегружен"
+    )
+    public CompletableFuture<EmployeeView> create(
             @RequestBody(
                     description = "Данные нового сотрудника",
                     required = true,
                     content = @Content(schema = @Schema(implementation = EmployeeDTO.class)))
             @Body @Valid EmployeeDTO employeeDTO
     ) {
-        // Проверка уникальности логина и email
-        if (repository.findByLogin(employeeDTO.getLogin()).isPresent()) {
-            throw new IllegalArgumentException("Логин уже существует");
-        }
-        if (repository.findByEmail(employeeDTO.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("Такая электронная почта уже есть в базе");
-        }
-
         Employee employee = new Employee();
         mapDtoToEntity(employeeDTO, employee);
-        return repository.save(employee);
+
+        // Хеширование выполняется на отдельном пуле, сохранение — снова на исполнителе блокирующих операций
+        return hashPasswordIfPresent(employeeDTO.getPassword())
+                .thenApplyAsync(hash -> {
+                    employee.setPassword(hash);
+                    EmployeeView view = translateWriteConflicts(
+                            () -> employeeService.create(employee),
+                            "Логин уже существует",
+                            "Такая электронная почта уже есть в базе"
+                    );
+                    lookupCache.put(view);
+                    return view;
+                }, blockingExecutor);
+    }
+
+    @Post(value = "/batch", consumes = MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Пакетно создать сотрудников",
+            description = "Принимает JSON-массив сотрудников и создаёт их порциями. "
+                    + "Строки с ошибками валидации или нарушением уникальности пропускаются и перечисляются в ответе."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Импорт завершён, результат содержит ошибки по отдельным строкам",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BatchImportResult.class))
+    )
+    public BatchImportResult importBatch(
+            @RequestBody(
+                    description = "Массив данных новых сотрудников",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = EmployeeDTO.class, type = "array")))
+            @Body List<EmployeeDTO> employees
+    ) {
+        return importService.importAll(employees);
+    }
+
+    @Post(value = "/batch", consumes = MediaType.APPLICATION_JSON_STREAM)
+    @Operation(
+            summary = "Пакетно создать сотрудников из потока",
+            description = "Принимает поток JSON-объектов (NDJSON) и создаёт сотрудников по мере чтения тела запроса."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Импорт завершён, результат содержит ошибки по отдельным строкам",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BatchImportResult.class))
+    )
+    public Mono<BatchImportResult> importStream(@Body Publisher<EmployeeDTO> employees) {
+        return importService.importStream(employees);
     }
 
     @Put("/{id}")
@@ -124,7 +349,7 @@ public class EmployeeController {
             responseCode = "200",
             description = "Данные сотрудника успешно обновлены",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Employee.class))
+                    schema = @Schema(implementation = EmployeeView.class))
     )
     @ApiResponse(
             responseCode = "400",
@@ -134,7 +359,15 @@ public class EmployeeController {
             responseCode = "404",
             description = "Сотрудник с указанным ID не найден"
     )
-    public Employee update(
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул хеширования паролей перегружен"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "ETag из If-Match не совпадает с текущей версией сотрудника"
+    )
+    public CompletableFuture<HttpResponse<EmployeeView>> update(
             @Parameter(
                     name = "id",
                     description = "Идентификатор сотрудника для обновления",
@@ -147,35 +380,114 @@ public class EmployeeController {
                     description = "Обновленные данные сотрудника",
                     required = true,
                     content = @Content(schema = @Schema(implementation = EmployeeDTO.class)))
-            @Body @Valid EmployeeDTO employeeDTO
+            @Body @Valid EmployeeDTO employeeDTO,
+
+            @Parameter(
+                    name = HttpHeaders.IF_MATCH,
+                    description = "ETag версии сотрудника, на основе которой сделаны изменения",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_MATCH) @Nullable String ifMatch
     ) {
+        Optional<Long> expectedVersion = EmployeeETags.expectedVersion(ifMatch, id);
         Employee employee = repository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Сотрудник не был найден"));
-
-        // Сохраняем текущие значения для проверки изменений
-        String currentLogin = employee.getLogin();
-        String currentEmail = employee.getEmail();
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Сотрудник не был найден"));
+        if (expectedVersion.isPresent() && !expectedVersion.get().equals(employee.getVersion())) {
+            throw EmployeeETags.preconditionFailed();
+        }
 
+        // Загруженная версия проверяется при записи, поэтому изменения между чтением и записью не теряются
         mapDtoToEntity(employeeDTO, employee);
 
-        // Проверка уникальности при изменении логина/email
-        if (!currentLogin.equals(employee.getLogin())) {
-            repository.findByLogin(employee.getLogin()).ifPresent(e -> {
-                if (!e.getId().equals(id)) {
-                    throw new IllegalArgumentException("Пользователь с таким логином уже существует");
-                }
-            });
-        }
+        return hashPasswordIfPresent(employeeDTO.getPassword())
+                .thenApplyAsync(hash -> {
+                    if (hash != null) {
+                        employee.setPassword(hash);
+                    }
+                    EmployeeView view = translateWriteConflicts(
+                            () -> employeeService.update(employee),
+                            "Пользователь с таким логином уже существует",
+                            "Пользователь с такой электронной почтой уже есть"
+                    );
+                    lookupCache.put(view);
+                    return HttpResponse.ok(view).header(HttpHeaders.ETAG, EmployeeETags.of(view));
+                }, blockingExecutor);
+    }
+
+    @Patch("/{id}")
+    @Operation(
+            summary = "Частично обновить данные сотрудника",
+            description = "Изменяет только переданные поля одним UPDATE без загрузки сотрудника. "
+                    + "Пароль хешируется, только если он передан."
+    )
+    @ApiResponse(
+            responseCode = "204",
+            description = "Данные сотрудника успешно обновлены"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Некорректные данные, пустое тело запроса или нарушение уникальности"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Сотрудник с указанным ID не найден"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул хеширования паролей перегружен"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "ETag из If-Match не совпадает с текущей версией сотрудника"
+    )
+    public CompletableFuture<HttpResponse<?>> patch(
+            @Parameter(
+                    name = "id",
+                    description = "Идентификатор сотрудника для обновления",
+                    required = true,
+                    in = ParameterIn.PATH
+            )
+            Long id,
 
-        if (!currentEmail.equals(employee.getEmail())) {
-            repository.findByEmail(employee.getEmail()).ifPresent(e -> {
-                if (!e.getId().equals(id)) {
-                    throw new IllegalArgumentException("Пользователь с такой электронной почтой уже есть");
-                }
-            });
+            @RequestBody(
+                    description = "Изменяемые поля сотрудника",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = EmployeePatchDTO.class)))
+            @Body @Valid EmployeePatchDTO patchDTO,
+
+            @Parameter(
+                    name = HttpHeaders.IF_MATCH,
+                    description = "ETag версии сотрудника, на основе которой сделаны изменения",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_MATCH) @Nullable String ifMatch
+    ) {
+        Long expectedVersion = EmployeeETags.expectedVersion(ifMatch, id).orElse(null);
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfPresent(columns, "firstName", patchDTO.getFirstName());
+        putIfPresent(columns, "lastName", patchDTO.getLastName());
+        putIfPresent(columns, "middleName", patchDTO.getMiddleName());
+        putIfPresent(columns, "login", patchDTO.getLogin());
+        putIfPresent(columns, "email", patchDTO.getEmail());
+        // Пустое тело ничего не меняет: без проверки If-Match и без события UPDATED в журнале изменений
+        if (columns.isEmpty() && patchDTO.getPassword() == null) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Не передано ни одного изменяемого поля");
         }
 
-        return repository.update(employee);
+        return hashPasswordIfPresent(patchDTO.getPassword())
+                .thenApplyAsync(hash -> {
+                    putIfPresent(columns, "password", hash);
+                    boolean updated = translateWriteConflicts(
+                            () -> employeeService.patch(id, expectedVersion, columns),
+                            "Пользователь с таким логином уже существует",
+                            "Пользователь с такой электронной почтой уже есть"
+                    );
+                    if (!updated) {
+                        throw notFoundOrConflict(id, expectedVersion);
+                    }
+                    lookupCache.evict(id);
+                    return HttpResponse.noContent();
+                }, blockingExecutor);
     }
 
     @Delete("/{id}")
@@ -192,6 +504,10 @@ public class EmployeeController {
             responseCode = "404",
             description = "Сотрудник с указанным ID не найден"
     )
+    @ApiResponse(
+            responseCode = "412",
+            description = "ETag из If-Match не совпадает с текущей версией сотрудника"
+    )
     public void delete(
             @Parameter(
                     name = "id",
@@ -199,21 +515,62 @@ public class EmployeeController {
                     required = true,
                     in = ParameterIn.PATH
             )
-            Long id
+            Long id,
+
+            @Parameter(
+                    name = HttpHeaders.IF_MATCH,
+                    description = "ETag версии сотрудника, которую разрешено удалить",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_MATCH) @Nullable String ifMatch
     ) {
-        repository.deleteById(id);
+        Long expectedVersion = EmployeeETags.expectedVersion(ifMatch, id).orElse(null);
+        if (!employeeService.delete(id, expectedVersion) && expectedVersion != null) {
+            throw notFoundOrConflict(id, expectedVersion);
+        }
+        lookupCache.evict(id);
     }
 
-    private void mapDtoToEntity(EmployeeDTO dto, Employee entity) {
+    // Видимость пакета — для JMH-бенчмарка MapDtoToEntityBenchmark и ReactiveEmployeeController
+    static void mapDtoToEntity(EmployeeDTO dto, Employee entity) {
         entity.setFirstName(dto.getFirstName());
         entity.setLastName(dto.getLastName());
         entity.setMiddleName(dto.getMiddleName());
         entity.setLogin(dto.getLogin());
         entity.setEmail(dto.getEmail());
+    }
+
+    private static <T> T translateWriteConflicts(
+            Supplier<T> write,
+            String loginTakenMessage,
+            String emailTakenMessage
+    ) {
+        try {
+            return write.get();
+        } catch (RuntimeException e) {
+            throw EmployeeResponses.translateWriteConflict(e, loginTakenMessage, emailTakenMessage).orElse(e);
+        }
+    }
+
+    // Запись по условию версии не затронула строк: либо сотрудника нет, либо версия устарела
+    private HttpStatusException notFoundOrConflict(Long id, @Nullable Long expectedVersion) {
+        if (expectedVersion != null && repository.existsById(id)) {
+            return EmployeeETags.preconditionFailed();
+        }
+        return new HttpStatusException(HttpStatus.NOT_FOUND, "Сотрудник не был найден");
+    }
+
+    private static void putIfPresent(Map<String, Object> columns, String property, Object value) {
+        if (value != null) {
+            columns.put(property, value);
+        }
+    }
 
-        // Хеширование пароля при его изменении
-        if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
-            entity.setPassword(passwordEncoder.encode(dto.getPassword()));
+    // Хеширование пароля при его изменении; null означает, что пароль не менялся
+    private CompletableFuture<String> hashPasswordIfPresent(String rawPassword) {
+        if (rawPassword == null || rawPassword.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return passwordHashingService.encode(rawPassword);
     }
 }
\ No newline at end of file
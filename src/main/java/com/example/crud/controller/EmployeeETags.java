@@ -0,0 +1,89 @@
+package com.example.crud.controller;
+
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Строгие ETag сотрудников на основе колонки version: {@code "<id>-<version>"} для одного сотрудника
+ * и хеш пар (id, version) для страницы списка.
+ */
+final class EmployeeETags {
+
+    private EmployeeETags() {
+    }
+
+    static String of(EmployeeView employee) {
+        return "\"" + employee.id() + "-" + employee.version() + "\"";
+    }
+
+    static String ofPage(List<EmployeeView> page) {
+        long hash = 1125899906842597L;
+        for (EmployeeView employee : page) {
+            hash = 31 * hash + employee.id();
+            hash = 31 * hash + employee.version();
+        }
+        return "\"p" + page.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Проверка If-None-Match: true, если клиент уже имеет актуальное представление.
+     */
+    static boolean matchesAny(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Извлекает ожидаемую версию из If-Match. Пустой результат — условие не задано или равно «*».
+     * Из списка ETag берётся строгий ETag этого сотрудника; слабые ETag (W/) для If-Match не подходят.
+     * Если подходящего ETag нет, он не распознан или в списке несколько версий сотрудника — 412.
+     */
+    static Optional<Long> expectedVersion(@Nullable String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return Optional.empty();
+        }
+        String prefix = "\"" + id + "-";
+        Long expected = null;
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+                continue;
+            }
+            long version;
+            try {
+                version = Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            // Условное изменение проверяет одну версию: несколько версий одного сотрудника не выразить одним UPDATE
+            if (expected != null && expected != version) {
+                throw preconditionFailed();
+            }
+            expected = version;
+        }
+        if (expected == null) {
+            throw preconditionFailed();
+        }
+        return Optional.of(expected);
+    }
+
+    static HttpStatusException preconditionFailed() {
+        return new HttpStatusException(HttpStatus.PRECONDITION_FAILED, "Сотрудник был изменён другим запросом");
+    }
+}
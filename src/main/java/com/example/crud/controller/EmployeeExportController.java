@@ -0,0 +1,57 @@
+package com.example.crud.controller;
+
+import com.example.crud.service.EmployeeExportService;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.QueryValue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.reactivestreams.Publisher;
+
+@Controller("/employees/export")
+@Tag(name = "Сотрудники", description = "Управление данными сотрудников")
+public class EmployeeExportController {
+
+    private final EmployeeExportService exportService;
+
+    public EmployeeExportController(EmployeeExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Get(produces = {"text/csv", "application/x-ndjson"})
+    @Operation(
+            summary = "Выгрузить всех сотрудников",
+            description = "Выгружает всю таблицу сотрудников в CSV (с заголовком) или NDJSON, упорядоченную по ID. "
+                    + "Строки передаются по мере чтения из БД через COPY, без загрузки таблицы в память"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Файл выгрузки",
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Неизвестный формат выгрузки"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Превышено число одновременных выгрузок"
+    )
+    public HttpResponse<Publisher<byte[]>> export(
+            @Parameter(name = "format", description = "Формат выгрузки: csv или ndjson", in = ParameterIn.QUERY)
+            @QueryValue(defaultValue = "csv") String format
+    ) {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.parse(format);
+        Publisher<byte[]> body = exportService.export(exportFormat);
+        return HttpResponse.ok(body)
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.name().toLowerCase() + "\"");
+    }
+}
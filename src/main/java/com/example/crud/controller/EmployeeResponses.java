@@ -0,0 +1,68 @@
+package com.example.crud.controller;
+
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeConstraints;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Общие для JPA- и R2DBC-контроллеров ответы: страницы с курсором и ETag, условные GET
+ * и перевод конфликтов записи в ответы 400/412.
+ */
+final class EmployeeResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private EmployeeResponses() {
+    }
+
+    static MutableHttpResponse<List<EmployeeView>> page(
+            List<EmployeeView> page,
+            int pageSize,
+            @Nullable String ifNoneMatch
+    ) {
+        String etag = EmployeeETags.ofPage(page);
+        MutableHttpResponse<List<EmployeeView>> response = EmployeeETags.matchesAny(ifNoneMatch, etag)
+                ? HttpResponse.notModified()
+                : HttpResponse.ok(page);
+        response.header(HttpHeaders.ETAG, etag);
+        if (page.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).id()));
+        }
+        return response;
+    }
+
+    // При совпадении ETag тело не сериализуется
+    static MutableHttpResponse<EmployeeView> single(EmployeeView employee, @Nullable String ifNoneMatch) {
+        String etag = EmployeeETags.of(employee);
+        MutableHttpResponse<EmployeeView> response = EmployeeETags.matchesAny(ifNoneMatch, etag)
+                ? HttpResponse.notModified()
+                : HttpResponse.ok(employee);
+        return response.header(HttpHeaders.ETAG, etag);
+    }
+
+    /**
+     * Уникальность логина и email проверяет БД; нарушение ограничения превращается в ответ 400,
+     * а конфликт версий — в 412. Нераспознанные ошибки возвращаются как пустой результат.
+     */
+    static Optional<RuntimeException> translateWriteConflict(
+            Throwable error,
+            String loginTakenMessage,
+            String emailTakenMessage
+    ) {
+        if (EmployeeConstraints.isOptimisticLockFailure(error)) {
+            return Optional.of(EmployeeETags.preconditionFailed());
+        }
+        return EmployeeConstraints.violatedUniqueConstraint(error)
+                .map(constraint -> new HttpStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        EmployeeConstraints.LOGIN_UNIQUE.equals(constraint) ? loginTakenMessage : emailTakenMessage));
+    }
+}
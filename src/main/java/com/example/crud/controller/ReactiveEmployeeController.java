@@ -0,0 +1,315 @@
+package com.example.crud.controller;
+
+import com.example.crud.config.DataAccess;
+import com.example.crud.config.PaginationConfiguration;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeDTO;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.ReactiveEmployeeRepository;
+import com.example.crud.service.PasswordHashingService;
+import com.example.crud.service.ReactiveEmployeeService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.*;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Вариант основных CRUD-операций на R2DBC: обработчики не блокируют поток event loop
+ * и не используют исполнитель employees. Активен при employees.data-access=r2dbc
+ * (окружение r2dbc); пакетный импорт, поиск, PATCH и выгрузка потоком остаются в JPA-варианте.
+ */
+@Controller("/employees")
+@Requires(property = DataAccess.PROPERTY, value = DataAccess.R2DBC)
+@Tag(name = "Сотрудники", description = "Управление данными сотрудников")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeRepository repository;
+    private final ReactiveEmployeeService employeeService;
+    private final PasswordHashingService passwordHashingService;
+    private final PaginationConfiguration pagination;
+
+    public ReactiveEmployeeController(
+            ReactiveEmployeeRepository repository,
+            ReactiveEmployeeService employeeService,
+            PasswordHashingService passwordHashingService,
+            PaginationConfiguration pagination
+    ) {
+        this.repository = repository;
+        this.employeeService = employeeService;
+        this.passwordHashingService = passwordHashingService;
+        this.pagination = pagination;
+    }
+
+    @Get
+    @Operation(
+            summary = "Получить страницу сотрудников",
+            description = "Возвращает сотрудников, упорядоченных по ID, начиная после курсора `after`. "
+                    + "Если страница заполнена полностью, курсор следующей страницы передаётся в заголовке X-Next-Cursor"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Успешное получение страницы сотрудников",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class, type = "array"))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Страница не изменилась с момента получения ETag из If-None-Match"
+    )
+    public Mono<HttpResponse<List<EmployeeView>>> getAll(
+            @Parameter(
+                    name = "after",
+                    description = "ID последнего сотрудника с предыдущей страницы",
+                    in = ParameterIn.QUERY
+            )
+            @QueryValue @Nullable Long after,
+
+            @Parameter(
+                    name = "size",
+                    description = "Размер страницы (ограничен сверху настройкой employees.pagination.max-size)",
+                    in = ParameterIn.QUERY
+            )
+            @QueryValue @Nullable Integer size,
+
+            @Parameter(
+                    name = HttpHeaders.IF_NONE_MATCH,
+                    description = "ETag ранее полученной страницы",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch
+    ) {
+        int pageSize = pagination.resolvePageSize(size);
+        return repository.findPageAfter(after == null ? 0L : after, pageSize)
+                .collectList()
+                .map(page -> EmployeeResponses.page(page, pageSize, ifNoneMatch));
+    }
+
+    @Get("/{id}")
+    @Operation(
+            summary = "Получить сотрудника по ID",
+            description = "Возвращает данные конкретного сотрудника по его идентификатору"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Сотрудник найден",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Сотрудник не изменился с момента получения ETag из If-None-Match"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Сотрудник с указанным ID не найден"
+    )
+    public Mono<HttpResponse<EmployeeView>> getById(
+            @Parameter(
+                    name = "id",
+                    description = "Идентификатор сотрудника",
+                    required = true,
+                    in = ParameterIn.PATH
+            )
+            Long id,
+
+            @Parameter(
+                    name = HttpHeaders.IF_NONE_MATCH,
+                    description = "ETag ранее полученного представления сотрудника",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch
+    ) {
+        return repository.readById(id)
+                .switchIfEmpty(Mono.error(ReactiveEmployeeController::notFound))
+                .map(employee -> EmployeeResponses.single(employee, ifNoneMatch));
+    }
+
+    @Post
+    @Status(HttpStatus.CREATED)
+    @Operation(
+            summary = "Создать нового сотрудника",
+            description = "Добавляет нового сотрудника в систему. Логин и email должны быть уникальными."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Сотрудник успешно создан",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Некорректные входные данные или нарушение уникальности"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул хеширования паролей перегружен"
+    )
+    public Mono<EmployeeView> create(
+            @RequestBody(
+                    description = "Данные нового сотрудника",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = EmployeeDTO.class)))
+            @Body @Valid EmployeeDTO employeeDTO
+    ) {
+        Employee employee = new Employee();
+        EmployeeController.mapDtoToEntity(employeeDTO, employee);
+
+        return withHashedPassword(employee, employeeDTO.getPassword())
+                .flatMap(employeeService::create)
+                .onErrorMap(e -> translateWriteConflict(e,
+                        "Логин уже существует",
+                        "Такая электронная почта уже есть в базе"));
+    }
+
+    @Put("/{id}")
+    @Operation(
+            summary = "Обновить данные сотрудника",
+            description = "Обновляет информацию о существующем сотруднике. При изменении логина/email проверяется уникальность."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Данные сотрудника успешно обновлены",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeView.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Некорректные данные или нарушение уникальности"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Сотрудник с указанным ID не найден"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Пул хеширования паролей перегружен"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "ETag из If-Match не совпадает с текущей версией сотрудника"
+    )
+    public Mono<HttpResponse<EmployeeView>> update(
+            @Parameter(
+                    name = "id",
+                    description = "Идентификатор сотрудника для обновления",
+                    required = true,
+                    in = ParameterIn.PATH
+            )
+            Long id,
+
+            @RequestBody(
+                    description = "Обновленные данные сотрудника",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = EmployeeDTO.class)))
+            @Body @Valid EmployeeDTO employeeDTO,
+
+            @Parameter(
+                    name = HttpHeaders.IF_MATCH,
+                    description = "ETag версии сотрудника, на основе которой сделаны изменения",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_MATCH) @Nullable String ifMatch
+    ) {
+        Optional<Long> expectedVersion = EmployeeETags.expectedVersion(ifMatch, id);
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(ReactiveEmployeeController::notFound))
+                .flatMap(employee -> {
+                    if (expectedVersion.isPresent() && !expectedVersion.get().equals(employee.getVersion())) {
+                        return Mono.error(EmployeeETags.preconditionFailed());
+                    }
+                    // Загруженная версия проверяется при записи, поэтому изменения между чтением и записью не теряются
+                    EmployeeController.mapDtoToEntity(employeeDTO, employee);
+                    return withHashedPassword(employee, employeeDTO.getPassword());
+                })
+                .flatMap(employeeService::update)
+                .map(view -> (HttpResponse<EmployeeView>) HttpResponse.ok(view)
+                        .header(HttpHeaders.ETAG, EmployeeETags.of(view)))
+                .onErrorMap(e -> translateWriteConflict(e,
+                        "Пользователь с таким логином уже существует",
+                        "Пользователь с такой электронной почтой уже есть"));
+    }
+
+    @Delete("/{id}")
+    @Operation(
+            summary = "Удалить сотрудника",
+            description = "Удаляет сотрудника из системы по его идентификатору"
+    )
+    @ApiResponse(
+            responseCode = "204",
+            description = "Сотрудник успешно удален"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Сотрудник с указанным ID не найден"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "ETag из If-Match не совпадает с текущей версией сотрудника"
+    )
+    public Mono<HttpResponse<?>> delete(
+            @Parameter(
+                    name = "id",
+                    description = "Идентификатор сотрудника для удаления",
+                    required = true,
+                    in = ParameterIn.PATH
+            )
+            Long id,
+
+            @Parameter(
+                    name = HttpHeaders.IF_MATCH,
+                    description = "ETag версии сотрудника, которую разрешено удалить",
+                    in = ParameterIn.HEADER
+            )
+            @Header(HttpHeaders.IF_MATCH) @Nullable String ifMatch
+    ) {
+        Long expectedVersion = EmployeeETags.expectedVersion(ifMatch, id).orElse(null);
+        return employeeService.delete(id, expectedVersion)
+                .flatMap(deleted -> deleted || expectedVersion == null
+                        ? Mono.just(HttpResponse.noContent())
+                        : notFoundOrConflict(id));
+    }
+
+    // Хеширование выполняется на отдельном пуле; пустой пароль при обновлении оставляет прежний хеш
+    private Mono<Employee> withHashedPassword(Employee employee, @Nullable String rawPassword) {
+        if (rawPassword == null || rawPassword.isEmpty()) {
+            return Mono.just(employee);
+        }
+        return Mono.fromFuture(() -> passwordHashingService.encode(rawPassword))
+                .map(hash -> {
+                    employee.setPassword(hash);
+                    return employee;
+                });
+    }
+
+    // Удаление по условию версии не затронуло строк: либо сотрудника нет, либо версия устарела
+    private <T> Mono<T> notFoundOrConflict(Long id) {
+        return repository.existsById(id)
+                .flatMap(exists -> Mono.error(exists ? EmployeeETags.preconditionFailed() : notFound()));
+    }
+
+    private static Throwable translateWriteConflict(Throwable error, String loginTakenMessage, String emailTakenMessage) {
+        return EmployeeResponses.translateWriteConflict(error, loginTakenMessage, emailTakenMessage)
+                .<Throwable>map(translated -> translated)
+                .orElse(error);
+    }
+
+    private static HttpStatusException notFound() {
+        return new HttpStatusException(HttpStatus.NOT_FOUND, "Сотрудник не был найден");
+    }
+}
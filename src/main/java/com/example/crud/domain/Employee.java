@@ -1,16 +1,29 @@
 package com.example.crud.domain;
 
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
-@Table(name = "employees")
-@Data
+@Table(
+        name = "employees",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_employees_login", columnNames = "login"),
+                @UniqueConstraint(name = "uk_employees_email", columnNames = "email")
+        }
+)
+// Без @Data: equals/hashCode по всем полям не нужны сущности, а пароль не должен попадать в toString
+@Getter
+@Setter
+@ToString(exclude = "password")
 @NoArgsConstructor
 public class Employee {
+    // Последовательность с шагом 50 позволяет Hibernate выделять id пачками и группировать INSERT в JDBC-батчи
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -22,12 +35,17 @@ public class Employee {
     @Column(name = "middle_name")
     private String middleName;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String login;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
+
+    // Оптимистическая блокировка; из версии строятся ETag ресурса
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
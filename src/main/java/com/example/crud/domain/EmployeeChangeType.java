@@ -0,0 +1,7 @@
+package com.example.crud.domain;
+
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,48 @@
+package com.example.crud.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "employee_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employee_outbox_position", columnNames = "position")
+)
+@Getter
+@Setter
+@ToString(exclude = "payload")
+@NoArgsConstructor
+public class EmployeeOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_outbox_seq")
+    @SequenceGenerator(name = "employee_outbox_seq", sequenceName = "employee_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private EmployeeChangeType changeType;
+
+    // Версия сотрудника после изменения; для удаления без If-Match неизвестна
+    private Long version;
+
+    // JSON представления сотрудника после изменения; пусто для удаления
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Позиция в ленте изменений; пусто, пока событие не опубликовано
+    private Long position;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
@@ -0,0 +1,82 @@
+package com.example.crud.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Introspected
+@Serdeable
+@Schema(name = "BatchImportResult", description = "Результат пакетного импорта сотрудников")
+public class BatchImportResult {
+
+    @Schema(description = "Количество успешно созданных сотрудников", example = "998")
+    private int created;
+
+    @Schema(description = "Ошибки по отдельным строкам импорта")
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addCreated(int count) {
+        created += count;
+    }
+
+    public void addError(int index, String message) {
+        errors.add(new RowError(index, message));
+    }
+
+    // Геттеры и сеттеры
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    @Introspected
+    @Serdeable
+    @Schema(name = "BatchImportRowError", description = "Ошибка импорта строки")
+    public static class RowError {
+
+        @Schema(description = "Порядковый номер строки во входных данных (с нуля)", example = "17")
+        private int index;
+
+        @Schema(description = "Причина ошибки", example = "Логин уже существует")
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(int index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.crud.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Логин и пароль для проверки учётных данных сотрудника.
+ */
+@Introspected
+@Serdeable
+@Schema(name = "CredentialsDTO", description = "Учётные данные сотрудника")
+public class CredentialsDTO {
+
+    @NotBlank(message = "Логин обязателен для заполнения")
+    @Schema(description = "Логин сотрудника", example = "ivanov")
+    private String login;
+
+    @NotBlank(message = "Пароль обязателен для заполнения")
+    @Schema(description = "Пароль сотрудника", example = "strongPassword123!")
+    private String password;
+
+    // Геттеры и сеттеры
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.crud.dto;
+
+import com.example.crud.domain.EmployeeChangeType;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Элемент ленты изменений сотрудников.
+ */
+@Introspected
+@Serdeable
+@Schema(name = "EmployeeChange", description = "Изменение данных сотрудника")
+public record EmployeeChange(
+        @Schema(description = "Позиция в ленте; передаётся в since для получения следующих изменений", example = "1024")
+        Long position,
+
+        @Schema(description = "Идентификатор сотрудника", example = "100")
+        Long employeeId,
+
+        @Schema(description = "Тип изменения")
+        EmployeeChangeType type,
+
+        @Schema(description = "Версия сотрудника после изменения", example = "3")
+        @Nullable
+        Long version,
+
+        @Schema(description = "Время изменения")
+        Instant occurredAt,
+
+        @Schema(description = "Данные сотрудника после изменения; отсутствуют для удаления")
+        @Nullable
+        EmployeeView employee
+) {
+}
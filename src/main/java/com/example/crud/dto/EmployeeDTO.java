@@ -1,13 +1,14 @@
 package com.example.crud.dto;
 
 import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
 import io.swagger.v3.oas.annotations.media.Schema;
-
-import javax.validation.constraints.Email;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Size;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 @Introspected
+@Serdeable
 @Schema(name = "EmployeeDTO", description = "Данные сотрудника")
 public class EmployeeDTO {
 
@@ -0,0 +1,101 @@
+package com.example.crud.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Частичное обновление сотрудника: изменяются только переданные (не null) поля.
+ * Переданное поле не может быть пустым или состоять из пробелов (кроме отчества: пустое значение его очищает).
+ */
+@Introspected
+@Serdeable
+@Schema(name = "EmployeePatchDTO", description = "Изменяемые поля сотрудника; отсутствующие поля не меняются")
+public class EmployeePatchDTO {
+
+    // Хотя бы один непробельный символ: @NotBlank здесь не подходит, потому что отсутствующее поле (null) допустимо
+    private static final String NOT_BLANK = ".*\\S.*";
+
+    @Pattern(regexp = NOT_BLANK, message = "Имя не может быть пустым")
+    @Size(min = 2, max = 50, message = "Имя должно содержать от 2 до 50 символов")
+    @Schema(description = "Имя сотрудника", example = "Иван")
+    private String firstName;
+
+    @Pattern(regexp = NOT_BLANK, message = "Фамилия не может быть пустой")
+    @Size(min = 2, max = 50, message = "Фамилия должна содержать от 2 до 50 символов")
+    @Schema(description = "Фамилия сотрудника", example = "Иванов")
+    private String lastName;
+
+    @Size(max = 50, message = "Отчество не должно превышать 50 символов")
+    @Schema(description = "Отчество сотрудника", example = "Петрович")
+    private String middleName;
+
+    @Pattern(regexp = NOT_BLANK, message = "Логин не может быть пустым")
+    @Size(min = 3, max = 30, message = "Логин должен содержать от 3 до 30 символов")
+    @Schema(description = "Уникальный логин для входа в систему", example = "ivanov")
+    private String login;
+
+    @Pattern(regexp = NOT_BLANK, message = "Пароль не может быть пустым")
+    @Size(min = 6, max = 100, message = "Пароль должен содержать от 6 до 100 символов")
+    @Schema(description = "Новый пароль (минимум 6 символов)", example = "strongPassword123!")
+    private String password;
+
+    @Pattern(regexp = NOT_BLANK, message = "Email не может быть пустым")
+    @Email(message = "Некорректный формат email")
+    @Schema(description = "Электронная почта (уникальная для каждого сотрудника)", example = "ivanov@example.com")
+    private String email;
+
+    // Геттеры и сеттеры
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    public void setMiddleName(String middleName) {
+        this.middleName = middleName;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.crud.dto;
+
+import com.example.crud.domain.Employee;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Представление сотрудника для чтения: только публичные поля, без хеша пароля.
+ * Используется как DTO-проекция репозитория, поэтому Hibernate не создаёт управляемых сущностей.
+ */
+@Introspected
+@Serdeable
+@Schema(name = "Employee", description = "Сотрудник")
+public record EmployeeView(
+        @Schema(description = "Уникальный идентификатор сотрудника", example = "100")
+        Long id,
+
+        @Schema(description = "Имя сотрудника", example = "Иван")
+        String firstName,
+
+        @Schema(description = "Фамилия сотрудника", example = "Иванов")
+        String lastName,
+
+        @Schema(description = "Отчество сотрудника", example = "Петрович")
+        String middleName,
+
+        @Schema(description = "Логин для входа в систему", example = "ivanov")
+        String login,
+
+        @Schema(description = "Электронная почта", example = "ivanov@example.com")
+        String email,
+
+        @Schema(description = "Версия записи, увеличивается при каждом изменении", example = "3")
+        Long version
+) {
+
+    public static EmployeeView from(Employee employee) {
+        return new EmployeeView(
+                employee.getId(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getMiddleName(),
+                employee.getLogin(),
+                employee.getEmail(),
+                employee.getVersion()
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.crud.filter;
+
+import io.micrometer.core.instrument.Clock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Лимит одновременно выполняемых запросов, подстраиваемый по схеме AIMD:
+ * каждый быстрый успешный запрос увеличивает лимит на 1/limit (примерно +1 за «окно»),
+ * медленный или завершившийся ошибкой 5xx — умножает лимит на backoffRatio, но не чаще раза за окно:
+ * запросы, начатые до последнего снижения, лимит больше не снижают, поэтому всплеск медленных ответов
+ * уменьшает его один раз, а не по разу на каждый ответ.
+ * Счётчики меняются CAS, блокировок нет.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private final Clock clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos;
+    private final double minLimit;
+    private final double maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    AdaptiveConcurrencyLimiter(Clock clock, int initialLimit, int minLimit, int maxLimit,
+                               long targetLatencyNanos, double backoffRatio) {
+        this.clock = clock;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+        this.lastDecreaseNanos = new AtomicLong(clock.monotonicTime());
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Возвращает разрешение запроса, начатого в startNanos (clock.monotonicTime()).
+     */
+    void release(long startNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        long now = clock.monotonicTime();
+        if (failed || now - startNanos > targetLatencyNanos) {
+            decrease(startNanos, now);
+        } else {
+            limitBits.updateAndGet(bits -> {
+                double limit = Double.longBitsToDouble(bits);
+                return Double.doubleToRawLongBits(Math.min(maxLimit, limit + 1 / limit));
+            });
+        }
+    }
+
+    private void decrease(long startNanos, long now) {
+        long last = lastDecreaseNanos.get();
+        // Лимит уже снижен после начала этого запроса, либо его одновременно снижает другой поток
+        if (last - startNanos >= 0 || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        limitBits.updateAndGet(bits -> Double.doubleToRawLongBits(
+                Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio)));
+    }
+
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
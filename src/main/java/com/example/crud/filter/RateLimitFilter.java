@@ -0,0 +1,225 @@
+package com.example.crud.filter;
+
+import com.example.crud.config.RateLimitConfiguration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Filter;
+import io.micronaut.http.filter.HttpServerFilter;
+import io.micronaut.http.filter.ServerFilterChain;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.http.server.exceptions.response.ErrorContext;
+import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import jakarta.inject.Inject;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Защищает /employees от перегрузки до начала обработки запроса:
+ * <ul>
+ *     <li>у каждого клиента свои токен-бакеты для чтения (GET/HEAD), записи и проверки учётных данных
+ *     (POST /employees/authenticate) — при исчерпании ответ 429 с Retry-After;</li>
+ *     <li>адаптивные лимиты одновременно выполняемых запросов, отдельные для каждого вида запросов,
+ *     чтобы медленные записи с BCrypt не отнимали место у дешёвых чтений, — при превышении ответ 503.</li>
+ * </ul>
+ * Допущенные и отклонённые запросы считаются в employees.requests.admitted / employees.requests.rejected.
+ */
+@Filter({"/employees", "/employees/**"})
+@Requires(property = "employees.rate-limit.enabled", notEquals = "false")
+public class RateLimitFilter implements HttpServerFilter {
+
+    private static final String READ = "read";
+    private static final String WRITE = "write";
+    private static final String AUTHENTICATE = "authenticate";
+
+    private static final String AUTHENTICATE_PATH = "/employees/authenticate";
+
+    private final RateLimitConfiguration configuration;
+    private final Clock clock;
+    private final ErrorResponseProcessor<?> errorResponseProcessor;
+    private final Cache<String, ClientBuckets> clients;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+    private final Map<String, Counter> admitted;
+    private final Map<String, Counter> rateLimited;
+    private final Map<String, Counter> shed;
+
+    @Inject
+    public RateLimitFilter(
+            RateLimitConfiguration configuration,
+            ErrorResponseProcessor<?> errorResponseProcessor,
+            MeterRegistry meterRegistry
+    ) {
+        this(configuration, errorResponseProcessor, meterRegistry, Clock.SYSTEM);
+    }
+
+    RateLimitFilter(
+            RateLimitConfiguration configuration,
+            ErrorResponseProcessor<?> errorResponseProcessor,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.configuration = configuration;
+        this.clock = clock;
+        this.errorResponseProcessor = errorResponseProcessor;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaxClients())
+                .expireAfterAccess(configuration.getClientIdleTimeout())
+                .build();
+        this.limiters = Map.of(
+                READ, limiter(configuration, clock, configuration.getTargetLatency().toNanos()),
+                WRITE, limiter(configuration, clock, configuration.getWriteTargetLatency().toNanos()),
+                AUTHENTICATE, limiter(configuration, clock, configuration.getWriteTargetLatency().toNanos()));
+
+        this.admitted = Map.of(
+                READ, admittedCounter(meterRegistry, READ),
+                WRITE, admittedCounter(meterRegistry, WRITE),
+                AUTHENTICATE, admittedCounter(meterRegistry, AUTHENTICATE));
+        this.rateLimited = Map.of(
+                READ, rejectedCounter(meterRegistry, READ, "rate-limit"),
+                WRITE, rejectedCounter(meterRegistry, WRITE, "rate-limit"),
+                AUTHENTICATE, rejectedCounter(meterRegistry, AUTHENTICATE, "rate-limit"));
+        this.shed = Map.of(
+                READ, rejectedCounter(meterRegistry, READ, "concurrency"),
+                WRITE, rejectedCounter(meterRegistry, WRITE, "concurrency"),
+                AUTHENTICATE, rejectedCounter(meterRegistry, AUTHENTICATE, "concurrency"));
+
+        limiters.forEach((kind, limiter) -> {
+            Gauge.builder("employees.requests.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Текущий адаптивный лимит одновременных запросов")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+            Gauge.builder("employees.requests.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Число выполняемых запросов, учитываемых лимитом")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+        String kind = kind(request);
+        long now = clock.monotonicTime();
+
+        ClientBuckets buckets = clients.get(clientKey(request), key -> new ClientBuckets(
+                new TokenBucket(configuration.getReadCapacity(), configuration.getReadRefillPerSecond(), now),
+                new TokenBucket(configuration.getWriteCapacity(), configuration.getWriteRefillPerSecond(), now),
+                new TokenBucket(configuration.getAuthenticateCapacity(), configuration.getAuthenticateRefillPerSecond(), now)
+        ));
+        long waitNanos = buckets.get(kind).tryAcquire(now);
+        if (waitNanos > 0) {
+            rateLimited.get(kind).increment();
+            return Mono.just(reject(request, HttpStatus.TOO_MANY_REQUESTS,
+                    "Превышен лимит запросов", retryAfterSeconds(waitNanos)));
+        }
+
+        if (configuration.getUnlimitedPaths().contains(request.getPath())) {
+            admitted.get(kind).increment();
+            return chain.proceed(request);
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.get(kind);
+        if (!limiter.tryAcquire()) {
+            shed.get(kind).increment();
+            return Mono.just(reject(request, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Сервис перегружен, повторите запрос позже", 1));
+        }
+        admitted.get(kind).increment();
+
+        // Разрешение возвращается при любом завершении ответа, включая ошибку и отмену клиентом
+        AtomicInteger status = new AtomicInteger();
+        return Flux.from(chain.proceed(request))
+                .doOnNext(response -> status.set(response.code()))
+                .doFinally(signal -> limiter.release(
+                        now,
+                        signal == SignalType.ON_ERROR || status.get() >= 500));
+    }
+
+    @Override
+    public int getOrder() {
+        return ServerFilterPhase.FIRST.after();
+    }
+
+    private String clientKey(HttpRequest<?> request) {
+        String header = configuration.getClientHeader();
+        if (header != null && !header.isBlank()) {
+            String value = request.getHeaders().get(header);
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return request.getRemoteAddress().getAddress().getHostAddress();
+    }
+
+    private MutableHttpResponse<?> reject(HttpRequest<?> request, HttpStatus status, String message, long retryAfterSeconds) {
+        return errorResponseProcessor.processResponse(
+                ErrorContext.builder(request).errorMessage(message).build(),
+                HttpResponse.status(status).header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        );
+    }
+
+    /**
+     * Ожидание до следующего токена в целых секундах для Retry-After: с округлением вверх и не меньше секунды.
+     */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static String kind(HttpRequest<?> request) {
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return READ;
+        }
+        return method == HttpMethod.POST && AUTHENTICATE_PATH.equals(request.getPath()) ? AUTHENTICATE : WRITE;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(RateLimitConfiguration configuration, Clock clock,
+                                                      long targetLatencyNanos) {
+        return new AdaptiveConcurrencyLimiter(
+                clock,
+                configuration.getInitialConcurrencyLimit(),
+                configuration.getMinConcurrencyLimit(),
+                configuration.getMaxConcurrencyLimit(),
+                targetLatencyNanos,
+                configuration.getBackoffRatio()
+        );
+    }
+
+    private static Counter admittedCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("employees.requests.admitted")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String kind, String reason) {
+        return Counter.builder("employees.requests.rejected")
+                .tag("kind", kind)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record ClientBuckets(TokenBucket read, TokenBucket write, TokenBucket authenticate) {
+
+        TokenBucket get(String kind) {
+            return switch (kind) {
+                case READ -> read;
+                case AUTHENTICATE -> authenticate;
+                default -> write;
+            };
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.crud.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Токен-бакет без блокировок в форме GCRA: всё состояние — одно «теоретическое время прихода»
+ * следующего запроса, которое сдвигается CAS на интервал между токенами.
+ * Бакет допускает всплеск до capacity запросов и затем пропускает refillPerSecond запросов в секунду.
+ * Время — показания монотонных часов (System.nanoTime()), которые могут переполняться, поэтому моменты
+ * сравниваются только через разность.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Создаёт полный бакет в момент nowNanos.
+     */
+    TokenBucket(int capacity, int refillPerSecond, long nowNanos) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / refillPerSecond;
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Забирает токен. Возвращает 0, если запрос допущен, иначе — через сколько наносекунд появится токен.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (nowNanos - current > 0 ? nowNanos : current) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.crud.metrics;
+
+import com.example.crud.config.ConnectionPoolConfiguration;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Периодически проверяет пул Hikari и предупреждает, когда запросы ждут свободного соединения:
+ * при виртуальных потоках это основной признак того, что пул стал узким местом.
+ * Число таких проверок экспортируется как employees.db.pool.saturated; время ожидания соединения
+ * экспортирует сам Hikari (hikaricp.connections.acquire, hikaricp.connections.pending).
+ */
+@Singleton
+@Requires(property = "employees.connection-pool.monitor-enabled", notEquals = "false")
+public class ConnectionPoolMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPoolMonitor.class);
+
+    private final DataSource dataSource;
+    private final ConnectionPoolConfiguration configuration;
+    private final Counter saturated;
+
+    public ConnectionPoolMonitor(
+            @Named("default") DataSource dataSource,
+            ConnectionPoolConfiguration configuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.saturated = Counter.builder("employees.db.pool.saturated")
+                .description("Число проверок, при которых потоки ждали соединения из пула")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = "${employees.connection-pool.monitor-interval:10s}", initialDelay = "30s")
+    void check() {
+        HikariPoolMXBean pool = pool();
+        if (pool == null) {
+            return;
+        }
+        int awaiting = pool.getThreadsAwaitingConnection();
+        if (awaiting > configuration.getAwaitingThreshold()) {
+            saturated.increment();
+            LOG.warn("Пул соединений исчерпан: ждут {} потоков, занято {} из {} соединений",
+                    awaiting, pool.getActiveConnections(), pool.getTotalConnections());
+        }
+    }
+
+    // Пул создаётся лениво, до первого соединения MXBean недоступен
+    private HikariPoolMXBean pool() {
+        try {
+            return DelegatingDataSource.unwrapDataSource(dataSource)
+                    .unwrap(HikariDataSource.class)
+                    .getHikariPoolMXBean();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.crud.metrics;
+
+import com.example.crud.config.QueryMetricsConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.data.annotation.Repository;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Записывает гистограмму времени выполнения каждого метода репозитория
+ * (метрика employees.db.query с тегами datasource, method и outcome) и логирует запросы дольше порога.
+ * При выключенной настройке сразу передаёт вызов дальше. Default-методы репозиториев пропускаются:
+ * они сами вызывают запросные методы, которые замеряются отдельно, и иначе время попало бы в метрику дважды.
+ */
+@Singleton
+@InterceptorBean(QueryTimed.class)
+public class QueryTimingInterceptor implements MethodInterceptor<Object, Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryTimingInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public QueryTimingInterceptor(MeterRegistry meterRegistry, QueryMetricsConfiguration configuration) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = configuration.isEnabled();
+        this.slowQueryThresholdNanos = configuration.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!enabled || !context.isAbstract()) {
+            return context.proceed();
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            String method = context.getMethodName();
+            // Имя источника данных из @Repository("replica"); пустое значение — основная БД
+            String datasource = context.stringValue(Repository.class).filter(name -> !name.isEmpty()).orElse("default");
+            String key = datasource + '.' + method;
+            Timer timer = failed
+                    ? errorTimers.computeIfAbsent(key, k -> timer(datasource, method, "error"))
+                    : successTimers.computeIfAbsent(key, k -> timer(datasource, method, "success"));
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed >= slowQueryThresholdNanos) {
+                LOG.warn("Медленный запрос {}.{}: {} мс",
+                        context.getDeclaringType().getSimpleName(), method, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    private Timer timer(String datasource, String method, String outcome) {
+        return Timer.builder("employees.db.query")
+                .description("Время выполнения метода репозитория")
+                .tag("datasource", datasource)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.crud.metrics;
+
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.inject.Singleton;
+
+/**
+ * Оборачивает каждый метод репозитория в span OpenTelemetry (дочерний к span HTTP-запроса).
+ * Активен только при настроенном экспортёре трассировок (otel.traces.exporter, отличный от none).
+ */
+@Singleton
+@InterceptorBean(QueryTimed.class)
+@Requires(property = "otel.traces.exporter", notEquals = "none")
+public class QueryTracingInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final Tracer tracer;
+
+    public QueryTracingInterceptor(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer("com.example.crud.repository");
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Span span = tracer.spanBuilder(context.getDeclaringType().getSimpleName() + "." + context.getMethodName())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("db.system", "postgresql")
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return context.proceed();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.crud.repository;
+
+import io.r2dbc.spi.R2dbcException;
+import org.hibernate.StaleStateException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Имена ограничений уникальности таблицы employees и распознавание их нарушений,
+ * а также конфликтов оптимистической блокировки.
+ * Уникальность логина и email обеспечивает БД, а не предварительные запросы,
+ * поэтому запись выполняется одним запросом и корректна при параллельных вставках.
+ */
+public final class EmployeeConstraints {
+
+    public static final String LOGIN_UNIQUE = "uk_employees_login";
+
+    public static final String EMAIL_UNIQUE = "uk_employees_email";
+
+    // SQLSTATE unique_violation в PostgreSQL
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private EmployeeConstraints() {
+    }
+
+    /**
+     * Ищет в цепочке причин нарушение уникальности и возвращает имя нарушенного ограничения.
+     * Распознаются ошибки как JDBC, так и R2DBC-драйвера.
+     */
+    public static Optional<String> violatedUniqueConstraint(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String sqlState = t instanceof SQLException sqlException ? sqlException.getSQLState()
+                    : t instanceof R2dbcException r2dbcException ? r2dbcException.getSqlState()
+                    : null;
+            if (UNIQUE_VIOLATION.equals(sqlState)) {
+                String message = String.valueOf(t.getMessage());
+                if (message.contains(LOGIN_UNIQUE)) {
+                    return Optional.of(LOGIN_UNIQUE);
+                }
+                if (message.contains(EMAIL_UNIQUE)) {
+                    return Optional.of(EMAIL_UNIQUE);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Проверяет, что запись не удалась из-за изменения строки другим запросом (несовпадение version).
+     */
+    public static boolean isOptimisticLockFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof jakarta.persistence.OptimisticLockException
+                    || t instanceof StaleStateException
+                    || t instanceof io.micronaut.data.exceptions.OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
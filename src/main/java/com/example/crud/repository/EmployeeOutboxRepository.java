@@ -0,0 +1,40 @@
+package com.example.crud.repository;
+
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.metrics.QueryTimed;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.transaction.annotation.ReadOnly;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@QueryTimed
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEvent, Long> {
+
+    // Транзакционная advisory-блокировка PostgreSQL: публикует изменения только один экземпляр приложения
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(long key);
+
+    List<EmployeeOutboxEvent> findByPositionIsNull(Pageable pageable);
+
+    Optional<Long> findMaxPosition();
+
+    @ReadOnly
+    List<EmployeeOutboxEvent> findByPositionGreaterThan(Long position, Pageable pageable);
+
+    long deleteByPublishedAtLessThan(Instant publishedAt);
+
+    default List<EmployeeOutboxEvent> findPending(int size) {
+        return findByPositionIsNull(Pageable.from(0, size, Sort.of(Sort.Order.asc("id"))));
+    }
+
+    default List<EmployeeOutboxEvent> findPublishedAfter(long position, int size) {
+        return findByPositionGreaterThan(position, Pageable.from(0, size, Sort.of(Sort.Order.asc("position"))));
+    }
+}
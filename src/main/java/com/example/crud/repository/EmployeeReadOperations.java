@@ -0,0 +1,36 @@
+package com.example.crud.repository;
+
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.transaction.annotation.ReadOnly;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Операции чтения сотрудников, общие для основной БД ({@link EmployeeRepository})
+ * и реплики ({@link ReplicaEmployeeRepository}); между ними выбирает {@code EmployeeReadRouter}.
+ */
+public interface EmployeeReadOperations {
+
+    String VIEW_CONSTRUCTOR = "new com.example.crud.dto.EmployeeView("
+            + "e.id, e.firstName, e.lastName, e.middleName, e.login, e.email, e.version)";
+
+    // Чтение через DTO-проекцию: выбираются только нужные колонки, без пароля и без persistence context.
+    // Конструктор в JPQL задан явно: выведенная из имени метода проекция подставляет имена колонок (first_name),
+    // которых нет в модели JPA
+    @ReadOnly
+    @Query("SELECT " + VIEW_CONSTRUCTOR + " FROM Employee e WHERE e.id = :id")
+    Optional<EmployeeView> readById(Long id);
+
+    // Keyset-пагинация: строки с id больше курсора, упорядоченные по id
+    @ReadOnly
+    @Query("SELECT " + VIEW_CONSTRUCTOR + " FROM Employee e WHERE e.id > :id ORDER BY e.id")
+    List<EmployeeView> readByIdGreaterThan(Long id, Pageable pageable);
+
+    default List<EmployeeView> findPageAfter(Long afterId, int size) {
+        // Порядок задан в запросе, Pageable ограничивает только число строк
+        return readByIdGreaterThan(afterId, Pageable.from(0, size));
+    }
+}
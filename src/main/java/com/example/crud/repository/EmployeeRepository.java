@@ -1,14 +1,92 @@
 package com.example.crud.repository;
 
 import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.metrics.QueryTimed;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+import io.micronaut.data.repository.jpa.criteria.CriteriaQueryBuilder;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+@QueryTimed
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeReadOperations {
     Optional<Employee> findByLogin(String login);
 
     Optional<Employee> findByEmail(String email);
-}
\ No newline at end of file
+
+    // Проверка уникальности для целой порции импорта одним запросом IN (...)
+    List<String> findLoginByLoginIn(Collection<String> logins);
+
+    List<String> findEmailByEmailIn(Collection<String> emails);
+
+    long deleteByIdAndVersion(Long id, Long version);
+
+    // Замена хеша пароля тем же паролем с большей стоимостью: version не меняется, так как данные сотрудника те же.
+    // Условие на прежний хеш не даёт перезаписать пароль, изменённый параллельно
+    @Query("UPDATE Employee e SET e.password = :newHash WHERE e.id = :id AND e.password = :currentHash")
+    long rehashPassword(Long id, String currentHash, String newHash);
+
+    /**
+     * Выборка по спецификации сразу в {@link EmployeeView}: в SELECT попадают только колонки представления,
+     * без пароля и без управляемых сущностей. Число строк ограничивается в SQL (FETCH FIRST).
+     */
+    default List<EmployeeView> findViews(PredicateSpecification<Employee> specification, Sort sort, int limit) {
+        return findAll(criteriaBuilder -> {
+            CriteriaQuery<EmployeeView> query = criteriaBuilder.createQuery(EmployeeView.class);
+            Root<Employee> root = query.from(Employee.class);
+            query.select(criteriaBuilder.construct(EmployeeView.class,
+                    root.get("id"),
+                    root.get("firstName"),
+                    root.get("lastName"),
+                    root.get("middleName"),
+                    root.get("login"),
+                    root.get("email"),
+                    root.get("version")));
+            query.where(specification.toPredicate(root, criteriaBuilder));
+            query.orderBy(sort.getOrderBy().stream()
+                    .map(order -> order.isAscending()
+                            ? criteriaBuilder.asc(root.get(order.getProperty()))
+                            : criteriaBuilder.desc(root.get(order.getProperty())))
+                    .toList());
+            return query;
+        }, Pageable.from(0, limit));
+    }
+
+    // Ограничение числа строк передаётся через Pageable: смещение и лимит запроса, которые выставляет Micronaut Data,
+    // заменяют FETCH FIRST, заданный в самом CriteriaQuery
+    List<EmployeeView> findAll(CriteriaQueryBuilder<EmployeeView> builder, Pageable pageable);
+
+    /**
+     * Обновляет только переданные колонки одним UPDATE без загрузки сущности и увеличивает version.
+     * Ключи — имена свойств {@link Employee}. Если expectedVersion задан, строка обновляется только при совпадении версии.
+     * Возвращает число изменённых строк (0, если сотрудника нет или версия не совпала).
+     */
+    default long updateColumns(Long id, @Nullable Long expectedVersion, Map<String, Object> columns) {
+        return updateAll((root, query, criteriaBuilder) -> {
+            columns.forEach(query::set);
+            Path<Long> version = root.get("version");
+            query.set(version, criteriaBuilder.sum(version, 1L));
+
+            Predicate byId = criteriaBuilder.equal(root.get("id"), id);
+            return expectedVersion == null
+                    ? byId
+                    : criteriaBuilder.and(byId, criteriaBuilder.equal(version, expectedVersion));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.crud.repository;
+
+import com.example.crud.domain.Employee;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+
+import java.util.List;
+
+/**
+ * Критерии поиска сотрудников для {@link EmployeeRepository}.
+ * Префиксные условия используют индексы text_pattern_ops, поиск по домену — триграммный индекс по email.
+ */
+public final class EmployeeSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EmployeeSpecifications() {
+    }
+
+    public static PredicateSpecification<Employee> hasId(Long id) {
+        return (root, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id);
+    }
+
+    public static PredicateSpecification<Employee> startsWith(String property, String prefix) {
+        return (root, criteriaBuilder) ->
+                criteriaBuilder.like(root.get(property), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static PredicateSpecification<Employee> emailDomain(String domain) {
+        return (root, criteriaBuilder) ->
+                criteriaBuilder.like(root.get("email"), "%@" + escapeLike(domain), LIKE_ESCAPE);
+    }
+
+    /**
+     * Условие keyset-пагинации по паре (свойство сортировки, id): строки строго после курсора.
+     * Записывается сравнением строк {@code (свойство, id) > (значение, id)}, которое PostgreSQL использует
+     * как границу диапазона индекса (свойство, id); раскрытие через OR индекс так не использует.
+     * В JPA Criteria сравнения кортежей нет, поэтому они строятся средствами SQM Hibernate,
+     * так же как при разборе HQL-выражения {@code (a, b) > (:a, :b)}.
+     */
+    public static PredicateSpecification<Employee> after(String property, boolean ascending, String value, Long id) {
+        return (root, criteriaBuilder) -> {
+            Path<Long> idPath = root.get("id");
+            if ("id".equals(property)) {
+                return ascending ? criteriaBuilder.greaterThan(idPath, id) : criteriaBuilder.lessThan(idPath, id);
+            }
+            NodeBuilder nodeBuilder = (NodeBuilder) criteriaBuilder;
+            SqmTuple<String> row = row(nodeBuilder, root.get(property), idPath);
+            SqmTuple<String> cursor = row(nodeBuilder, nodeBuilder.value(value), nodeBuilder.value(id));
+            return ascending ? nodeBuilder.greaterThan(row, cursor) : nodeBuilder.lessThan(row, cursor);
+        };
+    }
+
+    // Параметр типа кортежа используется только компилятором: Hibernate сравнивает элементы попарно
+    private static SqmTuple<String> row(NodeBuilder nodeBuilder, Expression<?> first, Expression<?> second) {
+        return new SqmTuple<>(List.of((SqmExpression<?>) first, (SqmExpression<?>) second), nodeBuilder);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
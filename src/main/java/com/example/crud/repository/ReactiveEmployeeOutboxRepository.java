@@ -0,0 +1,16 @@
+package com.example.crud.repository;
+
+import com.example.crud.config.DataAccess;
+import com.example.crud.domain.EmployeeOutboxEvent;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.reactive.ReactorCrudRepository;
+
+/**
+ * Запись журнала изменений из R2DBC-варианта; публикация и чтение ленты общие и идут через JPA.
+ */
+@R2dbcRepository(dialect = Dialect.POSTGRES)
+@Requires(property = DataAccess.PROPERTY, value = DataAccess.R2DBC)
+public interface ReactiveEmployeeOutboxRepository extends ReactorCrudRepository<EmployeeOutboxEvent, Long> {
+}
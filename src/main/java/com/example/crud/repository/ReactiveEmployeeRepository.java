@@ -0,0 +1,32 @@
+package com.example.crud.repository;
+
+import com.example.crud.config.DataAccess;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.reactive.ReactorCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Реактивный аналог {@link EmployeeRepository} на micronaut-data-r2dbc, активен при employees.data-access=r2dbc.
+ */
+@R2dbcRepository(dialect = Dialect.POSTGRES)
+@Requires(property = DataAccess.PROPERTY, value = DataAccess.R2DBC)
+public interface ReactiveEmployeeRepository extends ReactorCrudRepository<Employee, Long> {
+
+    Mono<EmployeeView> readById(Long id);
+
+    // Keyset-пагинация: строки с id больше курсора, упорядоченные по id
+    Flux<EmployeeView> readByIdGreaterThan(Long id, Pageable pageable);
+
+    Mono<Long> deleteByIdAndVersion(Long id, Long version);
+
+    default Flux<EmployeeView> findPageAfter(Long afterId, int size) {
+        return readByIdGreaterThan(afterId, Pageable.from(0, size, Sort.of(Sort.Order.asc("id"))));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.crud.repository;
+
+import com.example.crud.domain.Employee;
+import com.example.crud.metrics.QueryTimed;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.repository.GenericRepository;
+
+/**
+ * Чтение сотрудников с реплики (источник данных replica, окружение {@code replica}).
+ * Бин создаётся, только если задан {@code datasources.replica.url}; записи на реплику не выполняются.
+ */
+@Repository("replica")
+@Requires(property = "datasources.replica.url")
+@QueryTimed
+public interface ReplicaEmployeeRepository extends GenericRepository<Employee, Long>, EmployeeReadOperations {
+}
@@ -0,0 +1,186 @@
+package com.example.crud.service;
+
+import com.example.crud.config.AuthenticationConfiguration;
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Проверка логина и пароля сотрудника.
+ * BCrypt выполняется на пуле проверки {@link PasswordHashingService}; одновременные одинаковые проверки
+ * ждут одного вычисления, а успешные результаты недолго хранятся в кеше, чтобы повторы клиентов не нагружали CPU.
+ * Ключ кеша — HMAC-SHA256 от логина, пароля и сохранённого хеша на секрете процесса: пароль в памяти не хранится,
+ * а смена пароля сразу делает прежние записи недействительными.
+ * Хеши, созданные с меньшей стоимостью BCrypt, чем настроена сейчас, после успешного входа пересчитываются.
+ */
+@Singleton
+public class EmployeeAuthenticationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmployeeAuthenticationService.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final EmployeeRepository repository;
+    private final EmployeeService employeeService;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService hashingService;
+    private final ExecutorService blockingExecutor;
+    private final SecretKeySpec digestKey;
+    // Хеш для проверки при неизвестном логине, чтобы время ответа не выдавало, существует ли логин
+    private final String unknownLoginHash;
+    private final Cache<String, Boolean> verified;
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Counter rehashed;
+
+    public EmployeeAuthenticationService(
+            EmployeeRepository repository,
+            EmployeeService employeeService,
+            PasswordEncoder passwordEncoder,
+            PasswordHashingService hashingService,
+            AuthenticationConfiguration configuration,
+            MeterRegistry meterRegistry,
+            @Named(EmployeeExecutors.EMPLOYEES) ExecutorService blockingExecutor
+    ) {
+        this.repository = repository;
+        this.employeeService = employeeService;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingService = hashingService;
+        this.blockingExecutor = blockingExecutor;
+
+        SecureRandom random = new SecureRandom();
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        this.digestKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.unknownLoginHash = passwordEncoder.encode(Base64.getEncoder().encodeToString(secret));
+
+        if (configuration.isCacheEnabled()) {
+            this.verified = Caffeine.newBuilder()
+                    .maximumSize(configuration.getCacheMaximumSize())
+                    .expireAfterWrite(configuration.getCacheExpireAfterWrite())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verified, "employees.verified-credentials");
+        } else {
+            this.verified = null;
+        }
+        this.rehashed = Counter.builder("employees.password.rehashed")
+                .description("Хеши паролей, пересчитанные с текущей стоимостью BCrypt при входе")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проверяет учётные данные и возвращает сотрудника; при неверном логине или пароле — ошибка 401.
+     * Чтение сотрудника блокирующее, поэтому метод вызывается на исполнителе {@code employees}.
+     * Логин и пароль не пустые: их проверяет валидация {@link com.example.crud.dto.CredentialsDTO}.
+     */
+    public CompletableFuture<EmployeeView> authenticate(String login, String password) {
+        Optional<Employee> found = repository.findByLogin(login);
+        if (found.isEmpty()) {
+            return hashingService.matches(password, unknownLoginHash)
+                    .thenApply(ignored -> {
+                        throw unauthorized();
+                    });
+        }
+
+        Employee employee = found.get();
+        String storedHash = employee.getPassword();
+        String digest = digest(login, password, storedHash);
+        if (verified != null && verified.getIfPresent(digest) != null) {
+            return CompletableFuture.completedFuture(EmployeeView.from(employee));
+        }
+
+        return verify(employee, password, digest).thenApply(matches -> {
+            if (!matches) {
+                throw unauthorized();
+            }
+            return EmployeeView.from(employee);
+        });
+    }
+
+    // Первый запрос запускает BCrypt, остальные с тем же ключом ждут его результата
+    private CompletableFuture<Boolean> verify(Employee employee, String password, String digest) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlight.putIfAbsent(digest, result);
+        if (running != null) {
+            return running;
+        }
+
+        String storedHash = employee.getPassword();
+        hashingService.matches(password, storedHash).whenComplete((matches, error) -> {
+            inFlight.remove(digest, result);
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            if (matches) {
+                if (verified != null) {
+                    verified.put(digest, Boolean.TRUE);
+                }
+                if (passwordEncoder.needsRehash(storedHash)) {
+                    rehash(employee, password, storedHash);
+                }
+            }
+            result.complete(matches);
+        });
+        return result;
+    }
+
+    // Пересчёт в фоне: ответ не ждёт второго BCrypt, а при перегрузке пула попытка повторится при следующем входе
+    private void rehash(Employee employee, String password, String storedHash) {
+        hashingService.encode(password)
+                .thenAcceptAsync(newHash -> {
+                    if (employeeService.rehashPassword(employee.getId(), storedHash, newHash)) {
+                        rehashed.increment();
+                        if (verified != null) {
+                            verified.put(digest(employee.getLogin(), password, newHash), Boolean.TRUE);
+                        }
+                    }
+                }, blockingExecutor)
+                .exceptionally(error -> {
+                    LOG.debug("Не удалось пересчитать хеш пароля сотрудника {}", employee.getId(), error);
+                    return null;
+                });
+    }
+
+    private String digest(String login, String password, String storedHash) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(login.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(storedHash.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 недоступен", e);
+        }
+    }
+
+    private static HttpStatusException unauthorized() {
+        return new HttpStatusException(HttpStatus.UNAUTHORIZED, "Неверный логин или пароль");
+    }
+}
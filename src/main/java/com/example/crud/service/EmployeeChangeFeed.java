@@ -0,0 +1,66 @@
+package com.example.crud.service;
+
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.dto.EmployeeChange;
+import com.example.crud.repository.EmployeeOutboxRepository;
+import io.micronaut.transaction.annotation.ReadOnly;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Лента изменений сотрудников поверх журнала employee_outbox.
+ * Публикация назначает новым строкам последовательные позиции; читатели видят только опубликованные строки,
+ * поэтому позиция в ленте монотонна даже при параллельных транзакциях с разных экземпляров.
+ */
+@Singleton
+public class EmployeeChangeFeed {
+
+    // Ключ advisory-блокировки публикатора
+    private static final long PUBLISHER_LOCK_KEY = 0x656d706c6f796565L;
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final EmployeeOutboxEvents events;
+
+    public EmployeeChangeFeed(EmployeeOutboxRepository outboxRepository, EmployeeOutboxEvents events) {
+        this.outboxRepository = outboxRepository;
+        this.events = events;
+    }
+
+    /**
+     * Публикует порцию неопубликованных событий в порядке записи. Возвращает число опубликованных строк;
+     * 0, если публикует другой экземпляр приложения.
+     */
+    @Transactional
+    public int publishPending(int batchSize) {
+        if (!outboxRepository.tryLock(PUBLISHER_LOCK_KEY)) {
+            return 0;
+        }
+        List<EmployeeOutboxEvent> pending = outboxRepository.findPending(batchSize);
+        long position = outboxRepository.findMaxPosition().orElse(0L);
+        Instant now = Instant.now();
+        for (EmployeeOutboxEvent event : pending) {
+            event.setPosition(++position);
+            event.setPublishedAt(now);
+        }
+        return pending.size();
+    }
+
+    public List<EmployeeChange> changesSince(long position, int size) {
+        return outboxRepository.findPublishedAfter(position, size).stream()
+                .map(events::toChange)
+                .toList();
+    }
+
+    @ReadOnly
+    public long latestPosition() {
+        return outboxRepository.findMaxPosition().orElse(0L);
+    }
+
+    @Transactional
+    public long purgePublishedBefore(Instant threshold) {
+        return outboxRepository.deleteByPublishedAtLessThan(threshold);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.crud.service;
+
+import com.example.crud.config.OutboxConfiguration;
+import com.example.crud.dto.EmployeeChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Фоновая публикация журнала изменений: порциями назначает позиции новым событиям
+ * (на одном экземпляре приложения одновременно) и на каждом экземпляре читает опубликованные события
+ * в локальный поток для SSE-подписчиков. Новый подписчик получает последние replay-size событий.
+ */
+@Singleton
+@Requires(property = "employees.outbox.feed-enabled", notEquals = "false")
+public class EmployeeChangePublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmployeeChangePublisher.class);
+
+    private final EmployeeChangeFeed feed;
+    private final OutboxConfiguration configuration;
+    private final Sinks.Many<EmployeeChange> live;
+    private final Counter published;
+    private volatile long lastPosition = -1;
+
+    public EmployeeChangePublisher(EmployeeChangeFeed feed, OutboxConfiguration configuration, MeterRegistry meterRegistry) {
+        this.feed = feed;
+        this.configuration = configuration;
+        this.live = Sinks.many().replay().limit(configuration.getReplaySize());
+        this.published = Counter.builder("employees.outbox.published")
+                .description("Число опубликованных событий журнала изменений")
+                .register(meterRegistry);
+    }
+
+    public Flux<EmployeeChange> live() {
+        return live.asFlux();
+    }
+
+    @Scheduled(fixedDelay = "${employees.outbox.publish-interval:1s}")
+    void publish() {
+        try {
+            if (configuration.isPublisherEnabled()) {
+                int count;
+                do {
+                    count = feed.publishPending(configuration.getBatchSize());
+                    published.increment(count);
+                } while (count == configuration.getBatchSize());
+            }
+            tail();
+        } catch (RuntimeException e) {
+            LOG.warn("Не удалось опубликовать журнал изменений", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = "1h", initialDelay = "5m")
+    void purge() {
+        long deleted = feed.purgePublishedBefore(Instant.now().minus(configuration.getRetention()));
+        if (deleted > 0) {
+            LOG.info("Удалено {} событий журнала изменений старше {}", deleted, configuration.getRetention());
+        }
+    }
+
+    // Живой поток начинается с позиции на момент старта; более ранние события отдаёт GET /employees/changes
+    private void tail() {
+        if (lastPosition < 0) {
+            lastPosition = feed.latestPosition();
+            return;
+        }
+        List<EmployeeChange> changes;
+        do {
+            changes = feed.changesSince(lastPosition, configuration.getBatchSize());
+            for (EmployeeChange change : changes) {
+                live.tryEmitNext(change);
+                lastPosition = change.position();
+            }
+        } while (changes.size() == configuration.getBatchSize());
+    }
+}
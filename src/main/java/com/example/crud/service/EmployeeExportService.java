@@ -0,0 +1,211 @@
+package com.example.crud.service;
+
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.config.ExportConfiguration;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Выгрузка всех сотрудников через COPY ... TO STDOUT драйвера PostgreSQL: строки идут из БД прямо в ответ,
+ * без сущностей и без сериализации в JVM. Следующая порция читается из COPY только по запросу подписчика,
+ * поэтому память ограничена размером буфера независимо от размера таблицы.
+ * <p>
+ * Выгрузка держит соединение всё время передачи, поэтому соединения берутся из отдельного небольшого пула
+ * datasources.export, а число одновременных выгрузок ограничено: лишние запросы сразу получают 503.
+ * Разрешение на выгрузку освобождается вместе с подпиской на тело ответа или по таймеру, если подписки не было.
+ */
+@Singleton
+public class EmployeeExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmployeeExportService.class);
+
+    private static final String COLUMNS = "id, first_name, last_name, middle_name, login, email, version";
+
+    private static final String CSV_COPY = "COPY (SELECT " + COLUMNS + " FROM employees ORDER BY id) "
+            + "TO STDOUT WITH (FORMAT csv, HEADER true)";
+
+    // JSON собирает сама БД. Формат csv с управляющими символами в роли кавычки и разделителя выводит строку как есть:
+    // в text-формате COPY экранировал бы обратные слэши JSON, а эти символы в JSON всегда экранированы
+    private static final String NDJSON_COPY = "COPY (SELECT row_to_json(e) FROM ("
+            + "SELECT id, first_name AS \"firstName\", last_name AS \"lastName\", middle_name AS \"middleName\", "
+            + "login, email, version FROM employees ORDER BY id) e) "
+            + "TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')";
+
+    public enum Format {
+        CSV(CSV_COPY, MediaType.of("text/csv")),
+        NDJSON(NDJSON_COPY, MediaType.of("application/x-ndjson"));
+
+        private final String copySql;
+        private final MediaType mediaType;
+
+        Format(String copySql, MediaType mediaType) {
+            this.copySql = copySql;
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new HttpStatusException(HttpStatus.BAD_REQUEST,
+                        "Неизвестный формат выгрузки: " + value + " (допустимо csv или ndjson)");
+            }
+        }
+    }
+
+    private final DataSource dataSource;
+    private final ExportConfiguration configuration;
+    private final ExecutorService blockingExecutor;
+    private final Semaphore permits;
+
+    public EmployeeExportService(
+            @Named(ExportConfiguration.DATASOURCE) DataSource dataSource,
+            ExportConfiguration configuration,
+            @Named(EmployeeExecutors.EMPLOYEES) ExecutorService blockingExecutor
+    ) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.blockingExecutor = blockingExecutor;
+        this.permits = new Semaphore(configuration.getMaxConcurrent());
+    }
+
+    // Разрешение берётся до формирования ответа, чтобы отказ пришёл статусом 503, а не обрывом тела.
+    // Дальше оно принадлежит подписке на тело: возвращается при её завершении, ошибке или отмене,
+    // а если подписки не было за subscribe-timeout, — по таймеру
+    public Flux<byte[]> export(Format format) {
+        Permit permit = new Permit();
+        int bufferSize = configuration.getBufferSize();
+        return Flux.using(
+                permit::claim,
+                claimed -> Flux.<byte[], CopyState>generate(
+                                () -> open(format),
+                                (state, sink) -> {
+                                    byte[] chunk = state.read(bufferSize);
+                                    if (chunk == null) {
+                                        sink.complete();
+                                    } else {
+                                        sink.next(chunk);
+                                    }
+                                    return state;
+                                },
+                                CopyState::close)
+                        .subscribeOn(Schedulers.fromExecutorService(blockingExecutor)),
+                Permit::release);
+    }
+
+    // COPY выполняется на собственном соединении пула в обход транзакционной обёртки Micronaut Data
+    private CopyState open(Format format) throws SQLException {
+        Connection connection = DelegatingDataSource.unwrapDataSource(dataSource).getConnection();
+        try {
+            CopyOut copyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(format.copySql);
+            return new CopyState(connection, copyOut);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Разрешение на выгрузку, взятое до ответа. Первая подписка на тело забирает его себе;
+     * без подписки оно возвращается по истечении subscribe-timeout. Подписка после этого (или повторная)
+     * берёт свободное разрешение заново, так что каждая подписка держит ровно одно и возвращает его в {@link #release}.
+     */
+    private final class Permit {
+
+        private static final int RESERVED = 0;
+        private static final int CLAIMED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(RESERVED);
+        private final Disposable expiry;
+
+        Permit() {
+            acquire();
+            expiry = Schedulers.parallel().schedule(this::expire,
+                    configuration.getSubscribeTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        Permit claim() {
+            expiry.dispose();
+            if (!state.compareAndSet(RESERVED, CLAIMED)) {
+                acquire();
+            }
+            return this;
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        private void acquire() {
+            if (!permits.tryAcquire()) {
+                throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Слишком много одновременных выгрузок");
+            }
+        }
+
+        private void expire() {
+            if (state.compareAndSet(RESERVED, EXPIRED)) {
+                LOG.debug("Выгрузку не начали читать за {}, разрешение возвращено", configuration.getSubscribeTimeout());
+                permits.release();
+            }
+        }
+    }
+
+    private record CopyState(Connection connection, CopyOut copyOut) {
+
+        // Склеивает строки COPY до bufferSize байт; null — данные закончились
+        byte[] read(int bufferSize) {
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(bufferSize + 1024);
+                byte[] row;
+                while (buffer.size() < bufferSize && (row = copyOut.readFromCopy()) != null) {
+                    buffer.write(row, 0, row.length);
+                }
+                return buffer.size() == 0 ? null : buffer.toByteArray();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Ошибка чтения COPY", e);
+            }
+        }
+
+        // Вызывается и при завершении, и при отмене: незавершённый COPY прерывается, соединение возвращается в пул
+        void close() {
+            try {
+                if (copyOut.isActive()) {
+                    copyOut.cancelCopy();
+                }
+            } catch (SQLException e) {
+                LOG.debug("Не удалось прервать COPY", e);
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn("Не удалось закрыть соединение выгрузки", e);
+            }
+        }
+    }
+}
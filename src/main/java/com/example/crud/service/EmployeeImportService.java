@@ -0,0 +1,186 @@
+package com.example.crud.service;
+
+import com.example.crud.config.BatchImportConfiguration;
+import com.example.crud.config.EmployeeExecutors;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.BatchImportResult;
+import com.example.crud.dto.EmployeeDTO;
+import com.example.crud.repository.EmployeeConstraints;
+import com.example.crud.repository.EmployeeRepository;
+import io.micronaut.validation.validator.Validator;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Пакетный импорт сотрудников: входные данные обрабатываются порциями,
+ * уникальность логинов и email проверяется одним запросом на порцию,
+ * а вставка (вместе с событиями журнала изменений) выполняется JDBC-батчами в одной транзакции.
+ */
+@Singleton
+public class EmployeeImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private final EmployeeRepository repository;
+    private final EmployeeService employeeService;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final BatchImportConfiguration configuration;
+    private final ExecutorService blockingExecutor;
+
+    public EmployeeImportService(
+            EmployeeRepository repository,
+            EmployeeService employeeService,
+            PasswordHashingService passwordHashingService,
+            Validator validator,
+            BatchImportConfiguration configuration,
+            @Named(EmployeeExecutors.EMPLOYEES) ExecutorService blockingExecutor
+    ) {
+        this.repository = repository;
+        this.employeeService = employeeService;
+        this.passwordHashingService = passwordHashingService;
+        this.validator = validator;
+        this.configuration = configuration;
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    public BatchImportResult importAll(List<EmployeeDTO> employees) {
+        BatchImportResult result = new BatchImportResult();
+        int chunkSize = configuration.getChunkSize();
+        for (int offset = 0; offset < employees.size(); offset += chunkSize) {
+            List<EmployeeDTO> chunk = employees.subList(offset, Math.min(offset + chunkSize, employees.size()));
+            importChunk(chunk, offset, result);
+        }
+        return result;
+    }
+
+    public Mono<BatchImportResult> importStream(Publisher<EmployeeDTO> employees) {
+        BatchImportResult result = new BatchImportResult();
+        int chunkSize = configuration.getChunkSize();
+        // concatMap обрабатывает порции строго последовательно, поэтому result не требует синхронизации
+        return Flux.from(employees)
+                .buffer(chunkSize)
+                .index()
+                .concatMap(indexed -> Mono.fromRunnable(() ->
+                                importChunk(indexed.getT2(), (int) (indexed.getT1() * chunkSize), result))
+                        .subscribeOn(Schedulers.fromExecutorService(blockingExecutor)))
+                .then(Mono.fromSupplier(() -> result));
+    }
+
+    private void importChunk(List<EmployeeDTO> chunk, int offset, BatchImportResult result) {
+        Set<String> logins = chunk.stream().map(EmployeeDTO::getLogin).collect(Collectors.toSet());
+        Set<String> emails = chunk.stream().map(EmployeeDTO::getEmail).collect(Collectors.toSet());
+        Set<String> takenLogins = new HashSet<>(repository.findLoginByLoginIn(logins));
+        Set<String> takenEmails = new HashSet<>(repository.findEmailByEmailIn(emails));
+
+        List<EmployeeDTO> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            EmployeeDTO dto = chunk.get(i);
+            int index = offset + i;
+
+            Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                result.addError(index, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            // Множества пополняются принятыми строками, что отсекает и дубликаты внутри самой порции
+            if (takenLogins.contains(dto.getLogin())) {
+                result.addError(index, "Логин уже существует");
+                continue;
+            }
+            if (takenEmails.contains(dto.getEmail())) {
+                result.addError(index, "Такая электронная почта уже есть в базе");
+                continue;
+            }
+            takenLogins.add(dto.getLogin());
+            takenEmails.add(dto.getEmail());
+            accepted.add(dto);
+            acceptedIndexes.add(index);
+        }
+
+        List<PendingEmployee> pending = new ArrayList<>(accepted.size());
+        int window = configuration.getHashParallelism();
+        for (int from = 0; from < accepted.size(); from += window) {
+            int to = Math.min(from + window, accepted.size());
+            List<CompletableFuture<String>> hashes = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                hashes.add(passwordHashingService.encode(accepted.get(i).getPassword()));
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    pending.add(new PendingEmployee(acceptedIndexes.get(i), accepted.get(i), hashes.get(i - from).join()));
+                } catch (CompletionException e) {
+                    result.addError(acceptedIndexes.get(i), e.getCause().getMessage());
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<Employee> entities = pending.stream().map(PendingEmployee::toEntity).toList();
+            employeeService.createAll(entities);
+            result.addCreated(entities.size());
+        } catch (RuntimeException e) {
+            // Порция сохраняется в одной транзакции и откатывается целиком (например, при гонке за уникальность),
+            // поэтому строки сохраняются заново по одной, чтобы каждая получила собственный результат
+            LOG.warn("Не удалось сохранить порцию импорта начиная со строки {}, строки сохраняются по одной", offset, e);
+            pending.forEach(employee -> importOne(employee, result));
+        }
+    }
+
+    private void importOne(PendingEmployee pending, BatchImportResult result) {
+        // Сущность создаётся заново: после отката порции у прежней могли остаться id и version
+        Employee entity = pending.toEntity();
+        try {
+            employeeService.createAll(List.of(entity));
+            result.addCreated(1);
+        } catch (RuntimeException e) {
+            Optional<String> constraint = EmployeeConstraints.violatedUniqueConstraint(e);
+            if (constraint.isEmpty()) {
+                LOG.warn("Не удалось сохранить строку импорта {}", pending.index(), e);
+            }
+            result.addError(pending.index(), constraint
+                    .map(name -> EmployeeConstraints.LOGIN_UNIQUE.equals(name)
+                            ? "Логин уже существует"
+                            : "Такая электронная почта уже есть в базе")
+                    .orElse("Не удалось сохранить сотрудника"));
+        }
+    }
+
+    // Строка, прошедшая проверки, вместе с хешем пароля
+    private record PendingEmployee(int index, EmployeeDTO dto, String passwordHash) {
+
+        Employee toEntity() {
+            Employee employee = new Employee();
+            employee.setFirstName(dto.getFirstName());
+            employee.setLastName(dto.getLastName());
+            employee.setMiddleName(dto.getMiddleName());
+            employee.setLogin(dto.getLogin());
+            employee.setEmail(dto.getEmail());
+            employee.setPassword(passwordHash);
+            return employee;
+        }
+    }
+}
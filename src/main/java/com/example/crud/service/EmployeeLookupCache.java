@@ -0,0 +1,87 @@
+package com.example.crud.service;
+
+import com.example.crud.config.EmployeeCacheConfiguration;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeReadOperations;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.Optional;
+
+/**
+ * Кеш чтения сотрудников по id поверх источника, выбранного {@link EmployeeReadRouter} (реплика или основная БД).
+ * Кеш заполняется только данными основной БД: устаревшее представление с отстающей реплики вместе с его ETag
+ * иначе отдавалось бы до истечения expire-after-write. Записи сбрасываются и заменяются точечно по id,
+ * более старая версия не заменяет более новую.
+ * При выключенном кеше все вызовы идут напрямую в репозиторий.
+ */
+@Singleton
+public class EmployeeLookupCache {
+
+    private final EmployeeReadRouter readRouter;
+    private final boolean enabled;
+    private final Cache<Long, EmployeeView> byId;
+
+    public EmployeeLookupCache(
+            EmployeeReadRouter readRouter,
+            EmployeeCacheConfiguration configuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.readRouter = readRouter;
+        this.enabled = configuration.isEnabled();
+        if (!enabled) {
+            this.byId = null;
+            return;
+        }
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumSize())
+                .expireAfterWrite(configuration.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "employees.by-id");
+    }
+
+    public Optional<EmployeeView> findById(Long id) {
+        if (!enabled) {
+            return readRouter.reads(id).readById(id);
+        }
+        EmployeeView cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        EmployeeReadOperations source = readRouter.reads(id);
+        if (readRouter.isReplica(source)) {
+            return source.readById(id);
+        }
+        // Чтение и запись в кеш атомарны для ключа: evict, пришедший во время чтения, дождётся его
+        // и удалит результат, а не будет перезаписан представлением, прочитанным до удаления
+        return Optional.ofNullable(byId.get(id, key -> source.readById(key).orElse(null)));
+    }
+
+    /**
+     * Кладёт сохранённого сотрудника в кеш. Если там уже более новая версия (ответы параллельных
+     * изменений пришли не по порядку), она остаётся.
+     */
+    public void put(EmployeeView employee) {
+        if (!enabled) {
+            return;
+        }
+        byId.asMap().merge(employee.id(), employee,
+                (cached, updated) -> updated.version() >= cached.version() ? updated : cached);
+    }
+
+    /**
+     * Удаляет сотрудника из кеша, когда его новое представление неизвестно.
+     */
+    public void evict(Long id) {
+        if (!enabled) {
+            return;
+        }
+        byId.invalidate(id);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.crud.service;
+
+import com.example.crud.domain.EmployeeChangeType;
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.dto.EmployeeChange;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Преобразование изменений сотрудника в строки журнала и обратно в элементы ленты.
+ * Представление сотрудника хранится в журнале как JSON, чтобы потребителям не нужно было перечитывать сотрудника.
+ */
+@Singleton
+public class EmployeeOutboxEvents {
+
+    private final JsonMapper jsonMapper;
+
+    public EmployeeOutboxEvents(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public EmployeeOutboxEvent changed(EmployeeChangeType type, EmployeeView employee) {
+        EmployeeOutboxEvent event = event(type, employee.id(), employee.version());
+        try {
+            event.setPayload(jsonMapper.writeValueAsString(employee));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return event;
+    }
+
+    public EmployeeOutboxEvent deleted(Long employeeId, @Nullable Long version) {
+        return event(EmployeeChangeType.DELETED, employeeId, version);
+    }
+
+    public EmployeeChange toChange(EmployeeOutboxEvent event) {
+        try {
+            EmployeeView employee = event.getPayload() == null
+                    ? null
+                    : jsonMapper.readValue(event.getPayload(), EmployeeView.class);
+            return new EmployeeChange(
+                    event.getPosition(),
+                    event.getEmployeeId(),
+                    event.getChangeType(),
+                    event.getVersion(),
+                    event.getCreatedAt(),
+                    employee
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EmployeeOutboxEvent event(EmployeeChangeType type, Long employeeId, @Nullable Long version) {
+        EmployeeOutboxEvent event = new EmployeeOutboxEvent();
+        event.setChangeType(type);
+        event.setEmployeeId(employeeId);
+        event.setVersion(version);
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+}
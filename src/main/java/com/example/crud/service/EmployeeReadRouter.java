@@ -0,0 +1,97 @@
+package com.example.crud.service;
+
+import com.example.crud.config.ReadRoutingConfiguration;
+import com.example.crud.repository.EmployeeReadOperations;
+import com.example.crud.repository.EmployeeRepository;
+import com.example.crud.repository.ReplicaEmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.Optional;
+
+/**
+ * Выбирает источник для чтения сотрудников: реплику, если она настроена, иначе основную БД.
+ * Чтения остаются на основной БД внутри уже открытой транзакции (она видит собственные незафиксированные изменения)
+ * и для сотрудников, изменённых за последние {@code employees.read-routing.primary-after-write},
+ * чтобы клиент сразу после записи не получил устаревшие данные с отстающей реплики.
+ * Выбор каждого источника считается в метрике employees.db.reads с тегом datasource.
+ */
+@Singleton
+public class EmployeeReadRouter {
+
+    private final EmployeeRepository primary;
+    private final EmployeeReadOperations replica;
+    private final TransactionOperations<?> primaryTransactions;
+    private final Cache<Long, Boolean> recentWrites;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public EmployeeReadRouter(
+            EmployeeRepository primary,
+            Optional<ReplicaEmployeeRepository> replica,
+            @Named("default") TransactionOperations<?> primaryTransactions,
+            ReadRoutingConfiguration configuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replica = replica.orElse(null);
+        this.primaryTransactions = primaryTransactions;
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumTrackedWrites())
+                .expireAfterWrite(configuration.getPrimaryAfterWrite())
+                .build();
+        this.primaryReads = reads(meterRegistry, "primary");
+        this.replicaReads = reads(meterRegistry, "replica");
+    }
+
+    /**
+     * Источник для чтений, не привязанных к конкретному сотруднику (страницы, поиск по логину и email).
+     */
+    public EmployeeReadOperations reads() {
+        if (replica == null || primaryTransactions.findTransactionStatus().isPresent()) {
+            primaryReads.increment();
+            return primary;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    /**
+     * Источник для чтения сотрудника по id с учётом его недавних изменений.
+     */
+    public EmployeeReadOperations reads(Long id) {
+        if (replica != null && recentWrites.getIfPresent(id) != null) {
+            primaryReads.increment();
+            return primary;
+        }
+        return reads();
+    }
+
+    /**
+     * Данные выбранного источника могут отставать от основной БД.
+     */
+    public boolean isReplica(EmployeeReadOperations source) {
+        return replica != null && source == replica;
+    }
+
+    /**
+     * Отмечает изменение сотрудника: до истечения primary-after-write он читается из основной БД.
+     */
+    public void markWritten(Long id) {
+        if (replica != null) {
+            recentWrites.put(id, Boolean.TRUE);
+        }
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String datasource) {
+        return Counter.builder("employees.db.reads")
+                .description("Чтения сотрудников по источнику данных")
+                .tag("datasource", datasource)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.crud.service;
+
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeRepository;
+import com.example.crud.repository.EmployeeSpecifications;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Поиск сотрудников по префиксам ФИО и домену email с сортировкой и keyset-пагинацией.
+ * Курсор — непрозрачная строка, кодирующая значение поля сортировки и id последней строки страницы.
+ */
+@Singleton
+public class EmployeeSearchService {
+
+    private static final Set<String> SORT_PROPERTIES = Set.of("id", "lastName", "firstName", "login", "email");
+
+    private final EmployeeRepository repository;
+
+    public EmployeeSearchService(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+
+    public SearchPage search(Criteria criteria, int size) {
+        if (!SORT_PROPERTIES.contains(criteria.sort())) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Сортировка возможна только по полям " + SORT_PROPERTIES);
+        }
+
+        PredicateSpecification<Employee> specification = (root, criteriaBuilder) -> criteriaBuilder.conjunction();
+        specification = andIfPresent(specification, "lastName", criteria.lastName());
+        specification = andIfPresent(specification, "firstName", criteria.firstName());
+        specification = andIfPresent(specification, "middleName", criteria.middleName());
+        if (criteria.emailDomain() != null && !criteria.emailDomain().isBlank()) {
+            specification = specification.and(EmployeeSpecifications.emailDomain(criteria.emailDomain()));
+        }
+        if (criteria.after() != null) {
+            Cursor cursor = Cursor.decode(criteria.after());
+            specification = specification.and(
+                    EmployeeSpecifications.after(criteria.sort(), criteria.ascending(), cursor.value(), cursor.id()));
+        }
+
+        Sort.Order.Direction direction = criteria.ascending() ? Sort.Order.Direction.ASC : Sort.Order.Direction.DESC;
+        Sort sort = "id".equals(criteria.sort())
+                ? Sort.of(new Sort.Order("id", direction, false))
+                : Sort.of(new Sort.Order(criteria.sort(), direction, false), new Sort.Order("id", direction, false));
+
+        // Без подсчёта общего числа строк: для keyset-пагинации он не нужен
+        List<EmployeeView> items = repository.findViews(specification, sort, size);
+
+        String nextCursor = null;
+        if (items.size() == size) {
+            EmployeeView last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.id(), sortValue(last, criteria.sort())).encode();
+        }
+        return new SearchPage(items, nextCursor);
+    }
+
+    private static PredicateSpecification<Employee> andIfPresent(
+            PredicateSpecification<Employee> specification,
+            String property,
+            String prefix
+    ) {
+        if (prefix == null || prefix.isBlank()) {
+            return specification;
+        }
+        return specification.and(EmployeeSpecifications.startsWith(property, prefix));
+    }
+
+    private static String sortValue(EmployeeView employee, String property) {
+        return switch (property) {
+            case "lastName" -> employee.lastName();
+            case "firstName" -> employee.firstName();
+            case "login" -> employee.login();
+            case "email" -> employee.email();
+            default -> String.valueOf(employee.id());
+        };
+    }
+
+    public record Criteria(
+            @Nullable String lastName,
+            @Nullable String firstName,
+            @Nullable String middleName,
+            @Nullable String emailDomain,
+            String sort,
+            boolean ascending,
+            @Nullable String after
+    ) {
+    }
+
+    public record SearchPage(List<EmployeeView> items, @Nullable String nextCursor) {
+    }
+
+    record Cursor(Long id, String value) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((id + ":" + value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+                throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Некорректный курсор страницы");
+            }
+        }
+    }
+}
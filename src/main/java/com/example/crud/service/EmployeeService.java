@@ -0,0 +1,120 @@
+package com.example.crud.service;
+
+import com.example.crud.domain.Employee;
+import com.example.crud.domain.EmployeeChangeType;
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeOutboxRepository;
+import com.example.crud.repository.EmployeeRepository;
+import com.example.crud.repository.EmployeeSpecifications;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Изменения сотрудников вместе с записью в журнал изменений (transactional outbox):
+ * строка журнала фиксируется в той же транзакции, что и само изменение, поэтому лента изменений
+ * не теряет и не выдумывает событий. Перед построением события выполняется flush, чтобы получить
+ * итоговую версию и сразу обнаружить нарушения ограничений.
+ * Изменённые сотрудники отмечаются в {@link EmployeeReadRouter}, чтобы следующие чтения шли в основную БД.
+ */
+@Singleton
+public class EmployeeService {
+
+    private final EmployeeRepository repository;
+    private final EmployeeOutboxRepository outboxRepository;
+    private final EmployeeOutboxEvents events;
+    private final EmployeeReadRouter readRouter;
+
+    public EmployeeService(
+            EmployeeRepository repository,
+            EmployeeOutboxRepository outboxRepository,
+            EmployeeOutboxEvents events,
+            EmployeeReadRouter readRouter
+    ) {
+        this.repository = repository;
+        this.outboxRepository = outboxRepository;
+        this.events = events;
+        this.readRouter = readRouter;
+    }
+
+    @Transactional
+    public EmployeeView create(Employee employee) {
+        Employee saved = repository.save(employee);
+        repository.flush();
+        EmployeeView view = EmployeeView.from(saved);
+        outboxRepository.save(events.changed(EmployeeChangeType.CREATED, view));
+        readRouter.markWritten(view.id());
+        return view;
+    }
+
+    // Пакетное создание для импорта: сотрудники и события вставляются JDBC-батчами
+    @Transactional
+    public void createAll(List<Employee> employees) {
+        repository.saveAll(employees);
+        repository.flush();
+        List<EmployeeOutboxEvent> created = employees.stream()
+                .map(employee -> events.changed(EmployeeChangeType.CREATED, EmployeeView.from(employee)))
+                .toList();
+        outboxRepository.saveAll(created);
+        employees.forEach(employee -> readRouter.markWritten(employee.getId()));
+    }
+
+    @Transactional
+    public EmployeeView update(Employee employee) {
+        Employee updated = repository.update(employee);
+        repository.flush();
+        EmployeeView view = EmployeeView.from(updated);
+        outboxRepository.save(events.changed(EmployeeChangeType.UPDATED, view));
+        readRouter.markWritten(view.id());
+        return view;
+    }
+
+    /**
+     * Частичное обновление одним UPDATE. Возвращает false, если сотрудника нет или версия не совпала.
+     * Набор колонок не пуст: иначе UPDATE только увеличил бы версию и записал пустое событие UPDATED.
+     */
+    @Transactional
+    public boolean patch(Long id, @Nullable Long expectedVersion, Map<String, Object> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Нет колонок для обновления сотрудника " + id);
+        }
+        if (repository.updateColumns(id, expectedVersion, columns) == 0) {
+            return false;
+        }
+        readRouter.markWritten(id);
+        // Чтение внутри транзакции, поэтому из основной БД: событие получает только что записанную версию
+        Optional<EmployeeView> view = repository.readById(id);
+        view.ifPresent(employee -> outboxRepository.save(events.changed(EmployeeChangeType.UPDATED, employee)));
+        return true;
+    }
+
+    /**
+     * Заменяет хеш пароля на пересчитанный с текущей стоимостью BCrypt, если хеш не менялся с момента проверки.
+     * Пароль и данные сотрудника остаются прежними, поэтому версия не увеличивается и событие в ленту не пишется.
+     */
+    @Transactional
+    public boolean rehashPassword(Long id, String currentHash, String newHash) {
+        return repository.rehashPassword(id, currentHash, newHash) > 0;
+    }
+
+    /**
+     * Удаляет сотрудника (при заданной версии — только её). Возвращает false, если удалять было нечего.
+     */
+    @Transactional
+    public boolean delete(Long id, @Nullable Long expectedVersion) {
+        long deleted = expectedVersion == null
+                ? repository.deleteAll(EmployeeSpecifications.hasId(id))
+                : repository.deleteByIdAndVersion(id, expectedVersion);
+        if (deleted == 0) {
+            return false;
+        }
+        outboxRepository.save(events.deleted(id, expectedVersion));
+        readRouter.markWritten(id);
+        return true;
+    }
+}
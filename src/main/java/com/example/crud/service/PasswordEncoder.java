@@ -1,16 +1,37 @@
 package com.example.crud.service;
 
+import com.example.crud.config.PasswordHashingConfiguration;
 import jakarta.inject.Singleton;
 import org.mindrot.jbcrypt.BCrypt;
 
 @Singleton
 public class PasswordEncoder {
 
+    private final int cost;
+
+    public PasswordEncoder(PasswordHashingConfiguration configuration) {
+        this.cost = configuration.getCost();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.hashpw(rawPassword, BCrypt.gensalt());
+        return BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost));
     }
 
+    // Повреждённый или не BCrypt-хеш в БД не совпадает ни с каким паролем: checkpw бросает исключение на разборе соли
     public boolean matches(String rawPassword, String encodedPassword) {
-        return BCrypt.checkpw(rawPassword, encodedPassword);
+        try {
+            return BCrypt.checkpw(rawPassword, encodedPassword);
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    // Хеш вида $2a$10$... создан с меньшей стоимостью, чем настроена сейчас
+    public boolean needsRehash(String encodedPassword) {
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (RuntimeException e) {
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
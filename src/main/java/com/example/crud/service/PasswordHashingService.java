@@ -0,0 +1,120 @@
+package com.example.crud.service;
+
+import com.example.crud.config.PasswordHashingConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Выполняет BCrypt-хеширование и проверку паролей на отдельных ограниченных пулах, чтобы не занимать потоки обработки запросов.
+ * Хеширование (создание, изменение, импорт) и проверка при входе не делят пул: всплеск попыток входа
+ * не задерживает записи, а массовый импорт не отнимает потоки у входа.
+ * При переполнении очереди задача сразу отклоняется с ответом 503.
+ */
+@Singleton
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final ThreadPoolExecutor verifyingExecutor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingConfiguration configuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = executor(
+                configuration.getPoolSize(), configuration.getQueueCapacity(), "password-hashing-");
+        this.verifyingExecutor = executor(
+                configuration.getVerifyPoolSize(), configuration.getVerifyQueueCapacity(), "password-verifying-");
+
+        Gauge.builder("employees.password.hashing.queue", hashingExecutor, e -> e.getQueue().size())
+                .description("Количество задач хеширования, ожидающих в очереди")
+                .register(meterRegistry);
+        Gauge.builder("employees.password.hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Количество выполняющихся задач хеширования")
+                .register(meterRegistry);
+        Gauge.builder("employees.password.verifying.queue", verifyingExecutor, e -> e.getQueue().size())
+                .description("Количество проверок паролей, ожидающих в очереди")
+                .register(meterRegistry);
+        Gauge.builder("employees.password.verifying.active", verifyingExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Количество выполняющихся проверок паролей")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("employees.password.hash")
+                .description("Время вычисления BCrypt-хеша")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("employees.password.verify")
+                .description("Время проверки пароля по BCrypt-хешу")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(hashingExecutor, () -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(verifyingExecutor,
+                () -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private static <T> CompletableFuture<T> submit(ThreadPoolExecutor executor, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Сервис перегружен, повторите запрос позже"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdown();
+        verifyingExecutor.shutdown();
+    }
+
+    private static ThreadPoolExecutor executor(int poolSize, int queueCapacity, String threadPrefix) {
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(threadPrefix),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        HashingThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
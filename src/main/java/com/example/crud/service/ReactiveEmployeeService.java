@@ -0,0 +1,64 @@
+package com.example.crud.service;
+
+import com.example.crud.config.DataAccess;
+import com.example.crud.domain.Employee;
+import com.example.crud.domain.EmployeeChangeType;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.ReactiveEmployeeOutboxRepository;
+import com.example.crud.repository.ReactiveEmployeeRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC-аналог {@link EmployeeService}: изменение и строка журнала изменений пишутся в одной реактивной транзакции.
+ */
+@Singleton
+@Requires(property = DataAccess.PROPERTY, value = DataAccess.R2DBC)
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository repository;
+    private final ReactiveEmployeeOutboxRepository outboxRepository;
+    private final EmployeeOutboxEvents events;
+
+    public ReactiveEmployeeService(
+            ReactiveEmployeeRepository repository,
+            ReactiveEmployeeOutboxRepository outboxRepository,
+            EmployeeOutboxEvents events
+    ) {
+        this.repository = repository;
+        this.outboxRepository = outboxRepository;
+        this.events = events;
+    }
+
+    @Transactional
+    public Mono<EmployeeView> create(Employee employee) {
+        return repository.save(employee)
+                .map(EmployeeView::from)
+                .flatMap(view -> outboxRepository.save(events.changed(EmployeeChangeType.CREATED, view))
+                        .thenReturn(view));
+    }
+
+    @Transactional
+    public Mono<EmployeeView> update(Employee employee) {
+        return repository.update(employee)
+                .map(EmployeeView::from)
+                .flatMap(view -> outboxRepository.save(events.changed(EmployeeChangeType.UPDATED, view))
+                        .thenReturn(view));
+    }
+
+    /**
+     * Удаляет сотрудника (при заданной версии — только её). Возвращает false, если удалять было нечего.
+     */
+    @Transactional
+    public Mono<Boolean> delete(Long id, @Nullable Long expectedVersion) {
+        Mono<Long> deleted = expectedVersion == null
+                ? repository.deleteById(id)
+                : repository.deleteByIdAndVersion(id, expectedVersion);
+        return deleted.flatMap(count -> count == 0
+                ? Mono.just(false)
+                : outboxRepository.save(events.deleted(id, expectedVersion)).thenReturn(true));
+    }
+}
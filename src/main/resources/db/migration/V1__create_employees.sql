@@ -0,0 +1,15 @@
+-- Исходная схема таблицы сотрудников (совпадает с маппингом сущности Employee)
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees
+(
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    first_name  VARCHAR(255) NOT NULL,
+    last_name   VARCHAR(255) NOT NULL,
+    middle_name VARCHAR(255),
+    login       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_employees_login UNIQUE (login),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
@@ -0,0 +1,31 @@
+-- Индексы для GET /employees/search
+
+-- Префиксный поиск (LIKE 'abc%') по ФИО
+CREATE INDEX IF NOT EXISTS ix_employees_last_name_prefix ON employees (last_name text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_employees_first_name_prefix ON employees (first_name text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_employees_middle_name_prefix ON employees (middle_name text_pattern_ops);
+
+-- Сортировка и keyset-пагинация по (поле, id)
+CREATE INDEX IF NOT EXISTS ix_employees_last_name_id ON employees (last_name, id);
+CREATE INDEX IF NOT EXISTS ix_employees_first_name_id ON employees (first_name, id);
+
+-- Поиск по домену email (LIKE '%@example.com') через триграммы.
+-- Для CREATE EXTENSION нужно право CREATE на базу (pg_trgm — доверенное расширение) или роль суперпользователя.
+-- Без него миграция не падает: индекс не создаётся, и поиск по домену читает таблицу целиком.
+-- Расширение можно установить позже вручную, после чего создать индекс тем же CREATE INDEX.
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION
+    WHEN insufficient_privilege OR undefined_file THEN
+        RAISE NOTICE 'pg_trgm не установлено (%), индекс ix_employees_email_trgm не создан', SQLERRM;
+END
+$$;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS ix_employees_email_trgm ON employees USING gin (email gin_trgm_ops);
+    END IF;
+END
+$$;
@@ -0,0 +1,35 @@
+-- Приведение баз, созданных раньше через hbm2ddl, к схеме миграций.
+-- На базе, созданной с V1, все шаги ничего не меняют.
+
+-- Последовательность employees_seq выдаёт id пачками по 50 (pooled-оптимизатор Hibernate),
+-- поэтому следующее значение должно быть не меньше max(id) + 50
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE employees_seq INCREMENT BY 50;
+SELECT setval('employees_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM employees) + 50, 50), false);
+
+-- hbm2ddl создавал ограничения уникальности со случайными именами; приложение распознаёт нарушения по именам
+DO
+$$
+    DECLARE
+        target RECORD;
+        legacy RECORD;
+    BEGIN
+        FOR target IN SELECT * FROM (VALUES ('login', 'uk_employees_login'), ('email', 'uk_employees_email')) AS t (col, name)
+            LOOP
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = target.name) THEN
+                    FOR legacy IN
+                        SELECT con.conname
+                        FROM pg_constraint con
+                                 JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+                        WHERE con.conrelid = 'employees'::regclass
+                          AND con.contype = 'u'
+                          AND array_length(con.conkey, 1) = 1
+                          AND att.attname = target.col
+                        LOOP
+                            EXECUTE format('ALTER TABLE employees DROP CONSTRAINT %I', legacy.conname);
+                        END LOOP;
+                    EXECUTE format('ALTER TABLE employees ADD CONSTRAINT %I UNIQUE (%I)', target.name, target.col);
+                END IF;
+            END LOOP;
+    END
+$$;
@@ -0,0 +1,2 @@
+-- Версия строки для оптимистической блокировки и ETag
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
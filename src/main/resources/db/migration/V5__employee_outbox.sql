@@ -0,0 +1,22 @@
+-- Журнал изменений сотрудников (transactional outbox): строка пишется в одной транзакции с изменением.
+-- position назначает публикатор под advisory-блокировкой, поэтому позиции возрастают в порядке публикации
+CREATE SEQUENCE IF NOT EXISTS employee_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employee_outbox
+(
+    id           BIGINT                   NOT NULL PRIMARY KEY,
+    employee_id  BIGINT                   NOT NULL,
+    change_type  VARCHAR(16)              NOT NULL,
+    version      BIGINT,
+    payload      TEXT,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    position     BIGINT,
+    published_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT uk_employee_outbox_position UNIQUE (position)
+);
+
+-- Очередь публикатора: только неопубликованные строки
+CREATE INDEX IF NOT EXISTS idx_employee_outbox_pending ON employee_outbox (id) WHERE position IS NULL;
+
+-- Очистка по сроку хранения
+CREATE INDEX IF NOT EXISTS idx_employee_outbox_published_at ON employee_outbox (published_at);
@@ -0,0 +1,9 @@
+-- Callback Flyway: выполняется после каждого migrate, а не один раз, как версионные миграции.
+-- Employee.id перешёл на employees_seq (pooled, шаг 50) раньше, чем появилась V3, выравнивающая последовательность.
+-- Базы, где последовательность успела отстать от max(id) (например, вставками экземпляров со старым IDENTITY
+-- при поэтапном обновлении), выравниваются здесь при следующем запуске. Последовательность только сдвигается вперёд.
+SELECT setval('employees_seq', m.max_id + 50, false)
+FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM employees) AS m,
+     employees_seq AS s
+-- Следующий блок id Hibernate — (nextval - 49 .. nextval); он должен начинаться после max(id)
+WHERE CASE WHEN s.is_called THEN s.last_value + 50 ELSE s.last_value END < m.max_id + 50;
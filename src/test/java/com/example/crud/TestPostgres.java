@@ -0,0 +1,65 @@
+package com.example.crud;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Встроенный PostgreSQL для тестов, которым нужна настоящая схема (EXPLAIN, R2DBC, реплика):
+ * один сервер на JVM, отдельная база на каждый тестовый класс. Docker не требуется —
+ * бинарники PostgreSQL приходят зависимостью io.zonky.test:embedded-postgres.
+ */
+public final class TestPostgres {
+
+    public static final String USERNAME = "postgres";
+    public static final String PASSWORD = "postgres";
+
+    private static EmbeddedPostgres server;
+
+    private TestPostgres() {
+    }
+
+    /**
+     * Создаёт пустую базу с указанным именем и возвращает её JDBC URL.
+     */
+    public static synchronized String createDatabase(String name) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + name);
+            statement.execute("CREATE DATABASE " + name);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Не удалось создать тестовую базу " + name, e);
+        }
+        return server.getJdbcUrl(USERNAME, name);
+    }
+
+    /**
+     * JDBC URL базы, созданной {@link #createDatabase(String)}, для подключения под другой ролью.
+     */
+    public static synchronized String jdbcUrl(String name, String user) {
+        return server().getJdbcUrl(user, name);
+    }
+
+    /**
+     * R2DBC URL той же базы, что и {@link #createDatabase(String)}.
+     */
+    public static synchronized String r2dbcUrl(String name) {
+        return "r2dbc:postgresql://localhost:%d/%s".formatted(server().getPort(), name);
+    }
+
+    private static EmbeddedPostgres server() {
+        if (server == null) {
+            // Сервер останавливает и удаляет каталог данных обработчик завершения JVM из самой библиотеки
+            try {
+                server = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Не удалось запустить встроенный PostgreSQL", e);
+            }
+        }
+        return server;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.crud.controller;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.dto.BatchImportResult;
+import com.example.crud.repository.EmployeeOutboxRepository;
+import com.example.crud.repository.EmployeeRepository;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет POST /employees/batch на встроенном PostgreSQL ({@link TestPostgres}): JSON-массив и поток NDJSON,
+ * номера строк в ошибках через границы порций (порция — 2 строки) и откат порции, которую отвергла БД.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeBatchImportTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_batch";
+
+    private String url;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    EmployeeRepository repository;
+
+    @Inject
+    EmployeeOutboxRepository outboxRepository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        url = TestPostgres.createDatabase(DATABASE);
+        return Map.of(
+                "datasources.default.url", url,
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.batch.chunk-size", "2",
+                "employees.password-hashing.cost", "4",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldImportJsonArrayAndReportRowErrors() {
+        Map<String, String> invalid = employee("array3");
+        invalid.remove("email");
+
+        BatchImportResult result = client.toBlocking().retrieve(HttpRequest.POST("/employees/batch", List.of(
+                employee("array1"), employee("array2"), invalid, employee("array1"), employee("array4"))),
+                BatchImportResult.class);
+
+        assertEquals(3, result.getCreated());
+        assertEquals(Map.of(2, "Email обязателен для заполнения", 3, "Логин уже существует"), errors(result));
+        assertTrue(repository.findByLogin("array4").isPresent());
+    }
+
+    @Test
+    void shouldImportNdjsonStreamAndReportRowErrors() {
+        String body = """
+                {"firstName":"Иван","lastName":"Иванов","login":"stream1","password":"securePass123","email":"stream1@example.com"}
+                {"firstName":"Иван","lastName":"Иванов","login":"stream2","password":"securePass123","email":"stream1@example.com"}
+                {"firstName":"Иван","lastName":"Иванов","login":"stream3","password":"securePass123","email":"stream3@example.com"}
+                """;
+
+        BatchImportResult result = client.toBlocking().retrieve(HttpRequest.POST("/employees/batch", body)
+                .contentType(MediaType.APPLICATION_JSON_STREAM_TYPE), BatchImportResult.class);
+
+        assertEquals(2, result.getCreated());
+        assertEquals(Map.of(1, "Такая электронная почта уже есть в базе"), errors(result));
+        assertTrue(repository.findByLogin("stream3").isPresent());
+    }
+
+    @Test
+    void shouldRollBackChunkRejectedByDatabaseAndRetryRowsOneByOne() throws SQLException {
+        // Строку с логином poison* отвергает триггер, как при гонке за уникальный логин с параллельной вставкой
+        execute("""
+                CREATE OR REPLACE FUNCTION reject_poison() RETURNS trigger AS $$
+                BEGIN
+                    IF NEW.login LIKE 'poison%' THEN
+                        RAISE EXCEPTION 'duplicate key value violates unique constraint "uk_employees_login"'
+                            USING ERRCODE = 'unique_violation';
+                    END IF;
+                    RETURN NEW;
+                END
+                $$ LANGUAGE plpgsql""");
+        execute("CREATE TRIGGER reject_poison BEFORE INSERT ON employees FOR EACH ROW EXECUTE FUNCTION reject_poison()");
+        try {
+            long events = outboxRepository.count();
+
+            BatchImportResult result = client.toBlocking().retrieve(HttpRequest.POST("/employees/batch", List.of(
+                    employee("retry1"), employee("poison1"), employee("retry2"))), BatchImportResult.class);
+
+            assertEquals(2, result.getCreated());
+            assertEquals(Map.of(1, "Логин уже существует"), errors(result));
+            // Откаченная порция не оставила ни строк, ни событий: каждая принятая строка записана один раз
+            assertEquals(1, count("SELECT count(*) FROM employees WHERE login = 'retry1'"));
+            assertEquals(0, count("SELECT count(*) FROM employees WHERE login = 'poison1'"));
+            assertEquals(events + 2, outboxRepository.count());
+        } finally {
+            execute("DROP TRIGGER reject_poison ON employees");
+        }
+    }
+
+    @Test
+    void shouldAdvanceLaggingSequenceOnMigrate() throws SQLException {
+        // Строка с id впереди последовательности, как после вставок со старым IDENTITY
+        execute("""
+                INSERT INTO employees (id, first_name, last_name, login, password, email, version)
+                VALUES (1000000, 'Иван', 'Иванов', 'legacy1', 'x', 'legacy1@example.com', 0)""");
+        execute("SELECT setval('employees_seq', 1, false)");
+
+        Flyway.configure()
+                .dataSource(url, TestPostgres.USERNAME, TestPostgres.PASSWORD)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        assertEquals(1000050, count("SELECT nextval('employees_seq')"));
+    }
+
+    private Map<Integer, String> errors(BatchImportResult result) {
+        return result.getErrors().stream()
+                .collect(Collectors.toMap(BatchImportResult.RowError::getIndex, BatchImportResult.RowError::getMessage));
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        return DriverManager.getConnection(url, TestPostgres.USERNAME, TestPostgres.PASSWORD);
+    }
+
+    private static Map<String, String> employee(String login) {
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("firstName", "Иван");
+        employee.put("lastName", "Иванов");
+        employee.put("login", login);
+        employee.put("password", "securePass123");
+        employee.put("email", login + "@example.com");
+        return employee;
+    }
+}
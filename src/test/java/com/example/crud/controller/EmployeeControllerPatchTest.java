@@ -0,0 +1,160 @@
+package com.example.crud.controller;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет PATCH /employees/{id} на встроенном PostgreSQL ({@link TestPostgres}) со схемой из миграций Flyway:
+ * частичное обновление, условие If-Match и ответы 400 на пустые и конфликтующие изменения.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeControllerPatchTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_patch";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.password-hashing.cost", "4",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldChangeOnlyPassedFields() {
+        EmployeeView created = create("patch1");
+
+        assertEquals(HttpStatus.NO_CONTENT, patch(created.id(), Map.of("middleName", "Сергеевич")).getStatus());
+
+        EmployeeView patched = get(created.id());
+        assertEquals("Сергеевич", patched.middleName());
+        assertEquals(created.firstName(), patched.firstName());
+        assertEquals(created.lastName(), patched.lastName());
+        assertEquals(created.login(), patched.login());
+        assertEquals(created.email(), patched.email());
+        assertEquals(created.version() + 1, patched.version());
+    }
+
+    @Test
+    void shouldApplyPatchOnlyToVersionFromIfMatch() {
+        EmployeeView created = create("patch2");
+        String etag = client.toBlocking().exchange(HttpRequest.GET("/employees/" + created.id()), EmployeeView.class)
+                .header(HttpHeaders.ETAG);
+
+        assertEquals(HttpStatus.NO_CONTENT, patch(created.id(), Map.of("firstName", "Пётр"), etag).getStatus());
+
+        // Тот же ETag уже устарел: версия изменилась после первого PATCH
+        assertStatus(HttpStatus.PRECONDITION_FAILED, () -> patch(created.id(), Map.of("firstName", "Павел"), etag));
+        assertEquals("Пётр", get(created.id()).firstName());
+    }
+
+    @Test
+    void shouldRejectEmptyBody() {
+        EmployeeView created = create("patch3");
+
+        assertStatus(HttpStatus.BAD_REQUEST, () -> patch(created.id(), Map.of()));
+        assertEquals(created.version(), get(created.id()).version());
+    }
+
+    @Test
+    void shouldRejectBlankFields() {
+        EmployeeView created = create("patch4");
+
+        assertStatus(HttpStatus.BAD_REQUEST, () -> patch(created.id(), Map.of("email", "")));
+        assertStatus(HttpStatus.BAD_REQUEST, () -> patch(created.id(), Map.of("firstName", "   ")));
+        assertStatus(HttpStatus.BAD_REQUEST, () -> patch(created.id(), Map.of("password", "       ")));
+        assertEquals(created, get(created.id()));
+    }
+
+    @Test
+    void shouldRejectTakenLogin() {
+        EmployeeView taken = create("patch5");
+        EmployeeView created = create("patch6");
+
+        HttpClientResponseException error = assertStatus(HttpStatus.BAD_REQUEST,
+                () -> patch(created.id(), Map.of("login", taken.login())));
+        assertTrue(error.getResponse().getBody(String.class).orElse("").contains("логином"));
+        assertEquals(created.login(), get(created.id()).login());
+    }
+
+    @Test
+    void shouldChangePasswordWithoutOtherFields() {
+        EmployeeView created = create("patch7");
+
+        assertEquals(HttpStatus.NO_CONTENT, patch(created.id(), Map.of("password", "newPassword456")).getStatus());
+        assertNotEquals(created.version(), get(created.id()).version());
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingEmployee() {
+        assertStatus(HttpStatus.NOT_FOUND, () -> patch(Long.MAX_VALUE, Map.of("firstName", "Пётр")));
+    }
+
+    private HttpResponse<?> patch(Long id, Map<String, String> changes) {
+        return patch(id, changes, null);
+    }
+
+    private HttpResponse<?> patch(Long id, Map<String, String> changes, String ifMatch) {
+        MutableHttpRequest<Map<String, String>> request = HttpRequest.PATCH("/employees/" + id, changes);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return client.toBlocking().exchange(request);
+    }
+
+    private EmployeeView get(Long id) {
+        return client.toBlocking().retrieve(HttpRequest.GET("/employees/" + id), EmployeeView.class);
+    }
+
+    private EmployeeView create(String login) {
+        HttpResponse<EmployeeView> response = client.toBlocking()
+                .exchange(HttpRequest.POST("/employees", employee(login)), EmployeeView.class);
+        assertEquals(HttpStatus.CREATED, response.getStatus());
+        return response.body();
+    }
+
+    private static HttpClientResponseException assertStatus(HttpStatus status, Runnable call) {
+        HttpClientResponseException error = assertThrows(HttpClientResponseException.class, call::run);
+        assertEquals(status, error.getStatus());
+        return error;
+    }
+
+    private static Map<String, String> employee(String login) {
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("firstName", "Иван");
+        employee.put("lastName", "Иванов");
+        employee.put("login", login);
+        employee.put("password", "securePass123");
+        employee.put("email", login + "@example.com");
+        return employee;
+    }
+}
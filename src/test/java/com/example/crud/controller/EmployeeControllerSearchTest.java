@@ -0,0 +1,113 @@
+package com.example.crud.controller;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Проверяет GET /employees/search на встроенном PostgreSQL ({@link TestPostgres}): размер страницы,
+ * курсор в обратном направлении сортировки и ответы 400 на некорректные параметры сортировки.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeControllerSearchTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_search_api";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.password-hashing.cost", "4",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @BeforeAll
+    void seed() {
+        for (int i = 1; i <= 5; i++) {
+            client.toBlocking().exchange(HttpRequest.POST("/employees", Map.of(
+                    "firstName", "Иван",
+                    "lastName", "Search" + i,
+                    "login", "search" + i,
+                    "password", "securePass123",
+                    "email", "search" + i + "@search.example.com")));
+        }
+    }
+
+    @Test
+    void shouldPageDescendingByCursor() {
+        HttpResponse<List<EmployeeView>> first = search("?lastName=Search&direction=desc&size=2");
+        assertEquals(List.of("Search5", "Search4"), lastNames(first));
+
+        HttpResponse<List<EmployeeView>> second = search(
+                "?lastName=Search&direction=desc&size=2&after=" + first.header(EmployeeResponses.NEXT_CURSOR_HEADER));
+        assertEquals(List.of("Search3", "Search2"), lastNames(second));
+
+        HttpResponse<List<EmployeeView>> last = search(
+                "?lastName=Search&direction=desc&size=2&after=" + second.header(EmployeeResponses.NEXT_CURSOR_HEADER));
+        assertEquals(List.of("Search1"), lastNames(last));
+        assertNull(last.header(EmployeeResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldFilterByEmailDomain() {
+        assertEquals(5, search("?emailDomain=search.example.com").body().size());
+        assertEquals(0, search("?emailDomain=example.com").body().size());
+    }
+
+    @Test
+    void shouldRejectUnknownDirection() {
+        assertBadRequest("?direction=up");
+    }
+
+    @Test
+    void shouldRejectUnknownSortProperty() {
+        assertBadRequest("?sort=password");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertBadRequest("?after=!!!");
+    }
+
+    private HttpResponse<List<EmployeeView>> search(String query) {
+        return client.toBlocking().exchange(
+                HttpRequest.GET("/employees/search" + query), Argument.listOf(EmployeeView.class));
+    }
+
+    private void assertBadRequest(String query) {
+        HttpClientResponseException exception = assertThrows(HttpClientResponseException.class,
+                () -> client.toBlocking().exchange(HttpRequest.GET("/employees/search" + query)));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    private static List<String> lastNames(HttpResponse<List<EmployeeView>> response) {
+        return response.body().stream().map(EmployeeView::lastName).toList();
+    }
+}
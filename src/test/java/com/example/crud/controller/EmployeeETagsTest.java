@@ -0,0 +1,86 @@
+package com.example.crud.controller;
+
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeETagsTest {
+
+    private static final EmployeeView EMPLOYEE =
+            new EmployeeView(1L, "Иван", "Иванов", null, "ivanov", "ivanov@example.com", 3L);
+
+    @Test
+    void shouldBuildStrongTagFromIdAndVersion() {
+        assertEquals("\"1-3\"", EmployeeETags.of(EMPLOYEE));
+    }
+
+    @Test
+    void shouldChangePageTagWhenAnyVersionChanges() {
+        EmployeeView updated = new EmployeeView(1L, "Иван", "Иванов", null, "ivanov", "ivanov@example.com", 4L);
+
+        assertEquals(EmployeeETags.ofPage(List.of(EMPLOYEE)), EmployeeETags.ofPage(List.of(EMPLOYEE)));
+        assertNotEquals(EmployeeETags.ofPage(List.of(EMPLOYEE)), EmployeeETags.ofPage(List.of(updated)));
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchWithWeakComparison() {
+        assertTrue(EmployeeETags.matchesAny("\"1-3\"", "\"1-3\""));
+        assertTrue(EmployeeETags.matchesAny("W/\"1-3\"", "\"1-3\""));
+        assertTrue(EmployeeETags.matchesAny("*", "\"1-3\""));
+        assertTrue(EmployeeETags.matchesAny("\"1-2\", W/\"1-3\"", "\"1-3\""));
+        assertTrue(EmployeeETags.matchesAny("\"1-2\",\"1-3\"", "\"1-3\""));
+    }
+
+    @Test
+    void shouldNotMatchStaleOrMalformedIfNoneMatch() {
+        assertFalse(EmployeeETags.matchesAny(null, "\"1-3\""));
+        assertFalse(EmployeeETags.matchesAny("", "\"1-3\""));
+        assertFalse(EmployeeETags.matchesAny("\"1-2\"", "\"1-3\""));
+        assertFalse(EmployeeETags.matchesAny("1-3", "\"1-3\""));
+        assertFalse(EmployeeETags.matchesAny("\"1-2\", \"2-3\"", "\"1-3\""));
+    }
+
+    @Test
+    void shouldTreatMissingOrWildcardIfMatchAsUnconditional() {
+        assertEquals(Optional.empty(), EmployeeETags.expectedVersion(null, 1L));
+        assertEquals(Optional.empty(), EmployeeETags.expectedVersion("  ", 1L));
+        assertEquals(Optional.empty(), EmployeeETags.expectedVersion(" * ", 1L));
+    }
+
+    @Test
+    void shouldReadVersionFromIfMatch() {
+        assertEquals(Optional.of(3L), EmployeeETags.expectedVersion("\"1-3\"", 1L));
+        assertEquals(Optional.of(3L), EmployeeETags.expectedVersion(" \"1-3\" ", 1L));
+        assertEquals(Optional.of(3L), EmployeeETags.expectedVersion("\"2-7\", \"1-3\"", 1L));
+        assertEquals(Optional.of(3L), EmployeeETags.expectedVersion("\"1-3\", W/\"1-4\"", 1L));
+    }
+
+    @Test
+    void shouldRejectWeakForeignOrMalformedIfMatch() {
+        assertPreconditionFailed("W/\"1-3\"");
+        assertPreconditionFailed("\"2-3\"");
+        assertPreconditionFailed("\"11-3\"");
+        assertPreconditionFailed("1-3");
+        assertPreconditionFailed("\"1-\"");
+        assertPreconditionFailed("\"1-abc\"");
+        assertPreconditionFailed("\"1-3");
+        assertPreconditionFailed("\"p1-3f\"");
+        assertPreconditionFailed("\"1-3\", \"1-4\"");
+    }
+
+    private static void assertPreconditionFailed(String ifMatch) {
+        HttpStatusException error = assertThrows(HttpStatusException.class,
+                () -> EmployeeETags.expectedVersion(ifMatch, 1L), ifMatch);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, error.getStatus());
+    }
+}
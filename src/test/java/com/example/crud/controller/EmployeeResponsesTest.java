@@ -0,0 +1,59 @@
+package com.example.crud.controller;
+
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.exceptions.OptimisticLockException;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeResponsesTest {
+
+    private static final String LOGIN_TAKEN = "Логин уже существует";
+    private static final String EMAIL_TAKEN = "Такая электронная почта уже есть в базе";
+
+    @Test
+    void shouldTranslateLoginViolationToBadRequest() {
+        HttpStatusException exception = translate(uniqueViolation("uk_employees_login"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals(LOGIN_TAKEN, exception.getMessage());
+    }
+
+    @Test
+    void shouldTranslateEmailViolationToBadRequest() {
+        HttpStatusException exception = translate(uniqueViolation("uk_employees_email"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals(EMAIL_TAKEN, exception.getMessage());
+    }
+
+    @Test
+    void shouldTranslateOptimisticLockFailureToPreconditionFailed() {
+        HttpStatusException exception = translate(new OptimisticLockException("Строка изменена"));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, exception.getStatus());
+    }
+
+    @Test
+    void shouldLeaveUnrecognizedErrorsUntranslated() {
+        assertEquals(Optional.empty(), EmployeeResponses.translateWriteConflict(
+                new DataAccessException("Нет соединения"), LOGIN_TAKEN, EMAIL_TAKEN));
+    }
+
+    private static HttpStatusException translate(Throwable error) {
+        return (HttpStatusException) EmployeeResponses.translateWriteConflict(error, LOGIN_TAKEN, EMAIL_TAKEN).orElseThrow();
+    }
+
+    private static RuntimeException uniqueViolation(String constraint) {
+        SQLException error = new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"" + constraint + "\"", "23505");
+        return new DataAccessException("Ошибка записи",
+                new ConstraintViolationException("could not execute statement", error, null));
+    }
+}
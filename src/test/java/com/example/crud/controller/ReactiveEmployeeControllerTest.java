@@ -0,0 +1,135 @@
+package com.example.crud.controller;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Проверяет R2DBC-вариант API ({@link ReactiveEmployeeController}) в окружении r2dbc поверх встроенного
+ * PostgreSQL ({@link TestPostgres}): схему создают миграции Flyway через JDBC, запросы обслуживает пул R2DBC.
+ */
+@MicronautTest(environments = "r2dbc", transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveEmployeeControllerTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "reactive_controller";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "r2dbc.datasources.default.url", TestPostgres.r2dbcUrl(DATABASE),
+                "r2dbc.datasources.default.username", TestPostgres.USERNAME,
+                "r2dbc.datasources.default.password", TestPostgres.PASSWORD,
+                "employees.password-hashing.cost", "4",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldCreateReadUpdateAndDeleteEmployee() {
+        EmployeeView created = create("reactive1");
+        assertNotNull(created.id());
+        assertEquals("reactive1", created.login());
+
+        HttpResponse<EmployeeView> found = client.toBlocking()
+                .exchange(HttpRequest.GET("/employees/" + created.id()), EmployeeView.class);
+        String etag = found.header(HttpHeaders.ETAG);
+        assertEquals(created, found.body());
+        assertEquals(HttpStatus.NOT_MODIFIED, client.toBlocking()
+                .exchange(HttpRequest.GET("/employees/" + created.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .getStatus());
+
+        Map<String, String> changes = employee("reactive1");
+        changes.put("middleName", "Сергеевич");
+        EmployeeView updated = client.toBlocking().retrieve(
+                HttpRequest.PUT("/employees/" + created.id(), changes).header(HttpHeaders.IF_MATCH, etag),
+                EmployeeView.class);
+        assertEquals("Сергеевич", updated.middleName());
+        assertEquals(created.version() + 1, updated.version());
+
+        // Устаревший ETag: запись уже изменена
+        HttpClientResponseException stale = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+                .exchange(HttpRequest.DELETE("/employees/" + created.id()).header(HttpHeaders.IF_MATCH, etag)));
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatus());
+
+        assertEquals(HttpStatus.NO_CONTENT, client.toBlocking()
+                .exchange(HttpRequest.DELETE("/employees/" + created.id())).getStatus());
+        HttpClientResponseException missing = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+                .exchange(HttpRequest.GET("/employees/" + created.id()), EmployeeView.class));
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatus());
+    }
+
+    @Test
+    void shouldRejectDuplicateLogin() {
+        create("reactive2");
+
+        Map<String, String> duplicate = employee("reactive2");
+        duplicate.put("email", "other.reactive2@example.com");
+        HttpClientResponseException error = assertThrows(HttpClientResponseException.class, () -> client.toBlocking()
+                .exchange(HttpRequest.POST("/employees", duplicate), EmployeeView.class));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+    }
+
+    @Test
+    void shouldPageByCursor() {
+        List<Long> ids = List.of(create("page1").id(), create("page2").id(), create("page3").id());
+        Long before = ids.get(0) - 1;
+
+        HttpResponse<List<EmployeeView>> first = client.toBlocking().exchange(
+                HttpRequest.GET("/employees?size=2&after=" + before), Argument.listOf(EmployeeView.class));
+        String cursor = first.header(EmployeeResponses.NEXT_CURSOR_HEADER);
+        assertEquals(ids.subList(0, 2), first.body().stream().map(EmployeeView::id).toList());
+        assertEquals(String.valueOf(ids.get(1)), cursor);
+
+        HttpResponse<List<EmployeeView>> second = client.toBlocking().exchange(
+                HttpRequest.GET("/employees?size=2&after=" + cursor), Argument.listOf(EmployeeView.class));
+        assertEquals(ids.subList(2, 3), second.body().stream().map(EmployeeView::id).toList());
+        assertNull(second.header(EmployeeResponses.NEXT_CURSOR_HEADER));
+    }
+
+    private EmployeeView create(String login) {
+        HttpResponse<EmployeeView> response = client.toBlocking()
+                .exchange(HttpRequest.POST("/employees", employee(login)), EmployeeView.class);
+        assertEquals(HttpStatus.CREATED, response.getStatus());
+        return response.body();
+    }
+
+    private static Map<String, String> employee(String login) {
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("firstName", "Иван");
+        employee.put("lastName", "Иванов");
+        employee.put("middleName", "Петрович");
+        employee.put("login", login);
+        employee.put("password", "securePass123");
+        employee.put("email", login + "@example.com");
+        return employee;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.crud.filter;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AIMD-лимит {@link AdaptiveConcurrencyLimiter} на управляемых часах: целевая задержка 100 мс, снижение вдвое.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration SLOW = Duration.ofSeconds(1);
+
+    private final MockClock clock = new MockClock();
+
+    @Test
+    void shouldRejectOverLimitUntilRelease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(clock.monotonicTime(), false);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldDecreaseOnlyOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        clock.add(Duration.ofMillis(1));
+        long start = acquire(limiter, 3);
+
+        clock.add(SLOW);
+        limiter.release(start, false);
+        limiter.release(start, false);
+        limiter.release(start, false);
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void shouldDecreaseAgainForRequestStartedAfterDecrease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        clock.add(Duration.ofMillis(1));
+        long first = acquire(limiter, 1);
+        clock.add(SLOW);
+        limiter.release(first, false);
+
+        clock.add(Duration.ofMillis(1));
+        long second = acquire(limiter, 1);
+        clock.add(SLOW);
+        limiter.release(second, false);
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void shouldDecreaseOnFastFailure() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        clock.add(Duration.ofMillis(1));
+        long start = acquire(limiter, 1);
+
+        limiter.release(start, true);
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void shouldNotDecreaseBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        for (int i = 0; i < 5; i++) {
+            clock.add(Duration.ofMillis(1));
+            limiter.release(acquire(limiter, 1), true);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void shouldIncreaseByAboutOnePerWindowOfFastResponses() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        // 10 + 1/10 + 1/10.1 + ... : примерно +1 за каждые limit быстрых ответов
+        for (int i = 0; i < 21; i++) {
+            limiter.release(acquire(limiter, 1), false);
+        }
+
+        assertEquals(11, limiter.getLimit());
+    }
+
+    private long acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        return clock.monotonicTime();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(clock, initialLimit, 2, 100,
+                TimeUnit.MILLISECONDS.toNanos(100), 0.5);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.crud.filter;
+
+import com.example.crud.config.RateLimitConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Ответы {@link RateLimitFilter} без HTTP-сервера: цепочка фильтров подменена, время задают управляемые часы.
+ */
+class RateLimitFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Api-Key";
+
+    private final MockClock clock = new MockClock();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitConfiguration configuration = new RateLimitConfiguration();
+    private final ErrorResponseProcessor<String> errors =
+            (context, response) -> response.body(context.getErrors().get(0).getMessage());
+
+    RateLimitFilterTest() {
+        configuration.setClientHeader(CLIENT_HEADER);
+    }
+
+    @Test
+    void shouldReject429WithRetryAfterWhenBucketIsEmpty() {
+        configuration.setReadCapacity(2);
+        configuration.setReadRefillPerSecond(1);
+        RateLimitFilter filter = filter();
+
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+
+        MutableHttpResponse<?> rejected = get(filter, "/employees", "a");
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatus());
+        assertEquals("1", rejected.header(HttpHeaders.RETRY_AFTER));
+        assertEquals("Превышен лимит запросов", rejected.body());
+        assertEquals(1, meterRegistry.get("employees.requests.rejected")
+                .tags("kind", "read", "reason", "rate-limit").counter().count());
+
+        // Бюджет у каждого клиента свой, и он пополняется со временем
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "b").getStatus());
+        clock.add(Duration.ofSeconds(1));
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+    }
+
+    @Test
+    void shouldKeepReadAndWriteBudgetsApart() {
+        configuration.setWriteCapacity(1);
+        RateLimitFilter filter = filter();
+
+        assertEquals(HttpStatus.OK, exchange(filter, HttpRequest.DELETE("/employees/1").header(CLIENT_HEADER, "a"),
+                Mono.just(HttpResponse.ok())).getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange(filter,
+                HttpRequest.DELETE("/employees/1").header(CLIENT_HEADER, "a"), Mono.just(HttpResponse.ok())).getStatus());
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+    }
+
+    @Test
+    void shouldRoundRetryAfterUpToWholeSeconds() {
+        assertEquals(1, RateLimitFilter.retryAfterSeconds(1));
+        assertEquals(1, RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(2, RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1));
+        assertEquals(3, RateLimitFilter.retryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(2_500)));
+    }
+
+    @Test
+    void shouldShed503WhenConcurrencyLimitIsReached() {
+        configuration.setInitialConcurrencyLimit(1);
+        configuration.setMinConcurrencyLimit(1);
+        RateLimitFilter filter = filter();
+
+        Sinks.One<MutableHttpResponse<?>> pending = Sinks.one();
+        Mono.from(filter.doFilter(request("/employees", "a"), request -> pending.asMono())).subscribe();
+
+        MutableHttpResponse<?> shed = get(filter, "/employees", "b");
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getStatus());
+        assertEquals("1", shed.header(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("employees.requests.rejected")
+                .tags("kind", "read", "reason", "concurrency").counter().count());
+
+        // Завершённый ответ возвращает место в лимите
+        pending.tryEmitValue(HttpResponse.ok());
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "b").getStatus());
+    }
+
+    @Test
+    void shouldNotCountStreamingPathsAgainstConcurrencyLimit() {
+        configuration.setInitialConcurrencyLimit(1);
+        configuration.setMinConcurrencyLimit(1);
+        RateLimitFilter filter = filter();
+
+        Mono.from(filter.doFilter(request("/employees/stream", "a"), request -> Mono.never())).subscribe();
+
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+    }
+
+    @Test
+    void shouldReturnPermitWhenResponseFails() {
+        configuration.setInitialConcurrencyLimit(1);
+        configuration.setMinConcurrencyLimit(1);
+        RateLimitFilter filter = filter();
+
+        Mono.from(filter.doFilter(request("/employees", "a"), request -> Mono.error(new IllegalStateException())))
+                .onErrorComplete()
+                .block();
+
+        assertEquals(HttpStatus.OK, get(filter, "/employees", "a").getStatus());
+    }
+
+    private RateLimitFilter filter() {
+        return new RateLimitFilter(configuration, errors, meterRegistry, clock);
+    }
+
+    private static MutableHttpResponse<?> get(RateLimitFilter filter, String path, String client) {
+        return exchange(filter, request(path, client), Mono.just(HttpResponse.ok()));
+    }
+
+    private static MutableHttpResponse<?> exchange(RateLimitFilter filter, HttpRequest<?> request,
+                                                   Mono<MutableHttpResponse<?>> response) {
+        return Mono.from(filter.doFilter(request, ignored -> response)).block();
+    }
+
+    private static HttpRequest<?> request(String path, String client) {
+        return HttpRequest.GET(path).header(CLIENT_HEADER, client);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.crud.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Пополнение {@link TokenBucket}: бакет на 2 токена с пополнением 10 в секунду (токен раз в 100 мс).
+ */
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldAdmitBurstAndReportWaitForNextToken() {
+        long start = 1_000;
+        TokenBucket bucket = new TokenBucket(2, 10, start);
+
+        assertEquals(0, bucket.tryAcquire(start));
+        assertEquals(0, bucket.tryAcquire(start));
+        assertEquals(INTERVAL, bucket.tryAcquire(start));
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(start + INTERVAL / 2));
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        long start = 1_000;
+        TokenBucket bucket = new TokenBucket(2, 10, start);
+        bucket.tryAcquire(start);
+        bucket.tryAcquire(start);
+
+        assertEquals(0, bucket.tryAcquire(start + INTERVAL));
+        assertEquals(INTERVAL, bucket.tryAcquire(start + INTERVAL));
+    }
+
+    @Test
+    void shouldNotAccumulateMoreThanCapacityWhileIdle() {
+        long start = 1_000;
+        TokenBucket bucket = new TokenBucket(2, 10, start);
+        long later = start + TimeUnit.SECONDS.toNanos(10);
+
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(INTERVAL, bucket.tryAcquire(later));
+    }
+
+    @Test
+    void shouldLimitAfterNanoTimeWrapsAround() {
+        long start = Long.MAX_VALUE - TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(2, 10, start);
+        // Через 10 с показания часов переполнились и стали отрицательными
+        long later = start + TimeUnit.SECONDS.toNanos(10);
+
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(INTERVAL, bucket.tryAcquire(later));
+    }
+}
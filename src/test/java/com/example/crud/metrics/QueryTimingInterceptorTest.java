@@ -0,0 +1,70 @@
+package com.example.crud.metrics;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.data.model.Sort;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Проверяет на встроенном PostgreSQL ({@link TestPostgres}), что {@link QueryTimingInterceptor} замеряет
+ * запросные методы репозитория, а default-методы, которые их вызывают, в метрику не попадают.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryTimingInterceptorTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "query_timing";
+
+    @Inject
+    EmployeeRepository repository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldTimeQueryMethodOnlyOnceForDefaultMethod() {
+        long before = count("findAll");
+
+        repository.findViews((root, criteriaBuilder) -> criteriaBuilder.conjunction(), Sort.of(Sort.Order.asc("id")), 10);
+
+        assertEquals(before + 1, count("findAll"));
+        assertNull(meterRegistry.find("employees.db.query").tag("method", "findViews").timer());
+    }
+
+    @Test
+    void shouldTimeQueryMethod() {
+        long before = count("findByLogin");
+
+        repository.findByLogin("nobody");
+
+        assertEquals(before + 1, count("findByLogin"));
+    }
+
+    private long count(String method) {
+        Timer timer = meterRegistry.find("employees.db.query")
+                .tags("method", method, "outcome", "success")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.crud.repository;
+
+import io.micronaut.data.exceptions.DataAccessException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeConstraintsTest {
+
+    @Test
+    void shouldRecognizeLoginViolationDeepInCauseChain() {
+        assertEquals(Optional.of(EmployeeConstraints.LOGIN_UNIQUE),
+                EmployeeConstraints.violatedUniqueConstraint(wrapped(uniqueViolation("uk_employees_login", "login"))));
+    }
+
+    @Test
+    void shouldRecognizeEmailViolation() {
+        assertEquals(Optional.of(EmployeeConstraints.EMAIL_UNIQUE),
+                EmployeeConstraints.violatedUniqueConstraint(wrapped(uniqueViolation("uk_employees_email", "email"))));
+    }
+
+    @Test
+    void shouldRecognizeR2dbcViolation() {
+        R2dbcDataIntegrityViolationException error = new R2dbcDataIntegrityViolationException(
+                "duplicate key value violates unique constraint \"uk_employees_email\"", "23505");
+
+        assertEquals(Optional.of(EmployeeConstraints.EMAIL_UNIQUE), EmployeeConstraints.violatedUniqueConstraint(error));
+    }
+
+    @Test
+    void shouldIgnoreUnknownUniqueConstraint() {
+        assertEquals(Optional.empty(),
+                EmployeeConstraints.violatedUniqueConstraint(wrapped(uniqueViolation("employees_pkey", "id"))));
+    }
+
+    @Test
+    void shouldIgnoreOtherSqlStates() {
+        // Имя ограничения в тексте ошибки другого класса (например, внешнего ключа) — не нарушение уникальности
+        SQLException error = new SQLException(
+                "update or delete violates foreign key constraint \"uk_employees_login\"", "23503");
+
+        assertEquals(Optional.empty(), EmployeeConstraints.violatedUniqueConstraint(wrapped(error)));
+        assertEquals(Optional.empty(), EmployeeConstraints.violatedUniqueConstraint(new RuntimeException("23505")));
+    }
+
+    @Test
+    void shouldRecognizeOptimisticLockFailures() {
+        assertTrue(EmployeeConstraints.isOptimisticLockFailure(new OptimisticLockException()));
+        assertTrue(EmployeeConstraints.isOptimisticLockFailure(
+                new DataAccessException("Ошибка записи", new StaleObjectStateException("Employee", 1L))));
+        assertTrue(EmployeeConstraints.isOptimisticLockFailure(
+                new io.micronaut.data.exceptions.OptimisticLockException("Строка изменена")));
+    }
+
+    @Test
+    void shouldNotTreatUniqueViolationAsOptimisticLockFailure() {
+        assertFalse(EmployeeConstraints.isOptimisticLockFailure(wrapped(uniqueViolation("uk_employees_login", "login"))));
+        assertFalse(EmployeeConstraints.isOptimisticLockFailure(new IllegalStateException()));
+    }
+
+    private static SQLException uniqueViolation(String constraint, String column) {
+        return new SQLException("ERROR: duplicate key value violates unique constraint \"" + constraint + "\"\n"
+                + "  Detail: Key (" + column + ")=(ivanov) already exists.", "23505");
+    }
+
+    // Так ошибку драйвера видит сервис: Hibernate оборачивает её, Micronaut Data — ещё раз
+    private static RuntimeException wrapped(SQLException error) {
+        return new DataAccessException("Ошибка записи",
+                new ConstraintViolationException("could not execute statement", error, null));
+    }
+}
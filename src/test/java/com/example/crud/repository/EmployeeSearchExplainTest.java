@@ -0,0 +1,187 @@
+package com.example.crud.repository;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.service.EmployeeSearchService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет по EXPLAIN, что SQL поиска, сформированный Hibernate, использует индексы из V2:
+ * условие курсора должно быть границей (Index Cond) индекса (поле, id), а не фильтром.
+ * Схему создают миграции Flyway во встроенном PostgreSQL ({@link TestPostgres}).
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeSearchExplainTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_search";
+    private static final String UNPRIVILEGED_DATABASE = "employee_search_unprivileged";
+    private static final String UNPRIVILEGED_ROLE = "search_migrator";
+
+    @Inject
+    EmployeeSearchService searchService;
+
+    private String url;
+
+    @Override
+    public Map<String, String> getProperties() {
+        url = TestPostgres.createDatabase(DATABASE);
+        return Map.of(
+                "datasources.default.url", url,
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "jpa.default.properties.hibernate.session_factory.statement_inspector",
+                RecordingStatementInspector.class.getName(),
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @BeforeAll
+    void seed() throws SQLException {
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO employees (id, first_name, last_name, middle_name, login, password, email, version)
+                    SELECT g, 'Имя' || (g % 300), 'Фамилия' || (g % 500), NULL, 'login' || g, 'x',
+                           'user' || g || '@example.com', 0
+                    FROM generate_series(1, 20000) AS g
+                    """);
+            statement.execute("ANALYZE employees");
+        }
+    }
+
+    @Test
+    void shouldUseLastNameIndexForCursor() throws SQLException {
+        String plan = explainSecondPage("lastName", true);
+
+        assertTrue(plan.contains("ix_employees_last_name_id"), plan);
+        assertTrue(plan.contains("Index Cond: (ROW("), plan);
+    }
+
+    @Test
+    void shouldUseFirstNameIndexForDescendingCursor() throws SQLException {
+        String plan = explainSecondPage("firstName", false);
+
+        assertTrue(plan.contains("ix_employees_first_name_id"), plan);
+        assertTrue(plan.contains("Index Scan Backward"), plan);
+        assertTrue(plan.contains("Index Cond: (ROW("), plan);
+    }
+
+    @Test
+    void shouldUseTrigramIndexForEmailDomain() throws SQLException {
+        RecordingStatementInspector.clear();
+        EmployeeSearchService.SearchPage page = searchService.search(
+                new EmployeeSearchService.Criteria(null, null, null, "example.com", "id", true, null), 50);
+        assertEquals(50, page.items().size());
+
+        // Без обычного индексного чтения по id остаётся только выбор между триграммным индексом и полным просмотром
+        String plan = explain(lastSelect(), "SET enable_indexscan = off");
+
+        assertTrue(plan.contains("Bitmap Index Scan on ix_employees_email_trgm"), plan);
+    }
+
+    @Test
+    void shouldMigrateWithoutPrivilegeToCreateExtension() throws SQLException {
+        TestPostgres.createDatabase(UNPRIVILEGED_DATABASE);
+        try (Connection connection = DriverManager.getConnection(
+                TestPostgres.jdbcUrl(UNPRIVILEGED_DATABASE, TestPostgres.USERNAME), TestPostgres.USERNAME, TestPostgres.PASSWORD);
+             Statement statement = connection.createStatement()) {
+            // Роль владеет только схемой public, но не базой: CREATE EXTENSION ей запрещён, как в управляемом PostgreSQL
+            statement.execute("DROP ROLE IF EXISTS " + UNPRIVILEGED_ROLE);
+            statement.execute("CREATE ROLE " + UNPRIVILEGED_ROLE + " LOGIN PASSWORD 'migrator'");
+            statement.execute("GRANT CREATE ON SCHEMA public TO " + UNPRIVILEGED_ROLE);
+        }
+        String url = TestPostgres.jdbcUrl(UNPRIVILEGED_DATABASE, UNPRIVILEGED_ROLE);
+
+        Flyway.configure()
+                .dataSource(url, UNPRIVILEGED_ROLE, "migrator")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, UNPRIVILEGED_ROLE, "migrator");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT indexname FROM pg_indexes WHERE tablename = 'employees'")) {
+            StringJoiner indexes = new StringJoiner(",");
+            while (rows.next()) {
+                indexes.add(rows.getString(1));
+            }
+            assertTrue(indexes.toString().contains("ix_employees_last_name_id"), indexes.toString());
+            assertFalse(indexes.toString().contains("ix_employees_email_trgm"), indexes.toString());
+        }
+    }
+
+    // Запрашивает две страницы и возвращает план SQL второй, в которой есть условие курсора
+    private String explainSecondPage(String sort, boolean ascending) throws SQLException {
+        EmployeeSearchService.SearchPage first = searchService.search(
+                new EmployeeSearchService.Criteria(null, null, null, null, sort, ascending, null), 50);
+        assertNotNull(first.nextCursor());
+
+        RecordingStatementInspector.clear();
+        EmployeeSearchService.SearchPage second = searchService.search(
+                new EmployeeSearchService.Criteria(null, null, null, null, sort, ascending, first.nextCursor()), 50);
+        assertEquals(50, second.items().size());
+        return explain(lastSelect());
+    }
+
+    // Инспектор общий для всего приложения: запросы публикатора outbox отсеиваются по таблице
+    private static String lastSelect() {
+        return RecordingStatementInspector.statements().stream()
+                .filter(statement -> statement.startsWith("select") && statement.contains(" from employees "))
+                .reduce((previous, next) -> next)
+                .orElseThrow();
+    }
+
+    private String explain(String sql, String... settings) throws SQLException {
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            // Таблица маленькая, поэтому последовательное чтение запрещено: проверяется, что индекс применим
+            statement.execute("SET enable_seqscan = off");
+            for (String setting : settings) {
+                statement.execute(setting);
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql))) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    // EXPLAIN (GENERIC_PLAN) принимает параметры только в виде $1, $2, ...
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length());
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    // Простой протокол: иначе драйвер отправит $1, $2, ... как параметры подготовленного запроса без значений
+    private Connection connection() throws SQLException {
+        return DriverManager.getConnection(url + "&preferQueryMode=simple", TestPostgres.USERNAME, TestPostgres.PASSWORD);
+    }
+}
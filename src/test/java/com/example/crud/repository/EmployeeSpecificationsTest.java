@@ -0,0 +1,24 @@
+package com.example.crud.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeSpecificationsTest {
+
+    @Test
+    void shouldKeepPlainText() {
+        assertEquals("Иванов", EmployeeSpecifications.escapeLike("Иванов"));
+    }
+
+    @Test
+    void shouldEscapeWildcards() {
+        assertEquals("100\\%", EmployeeSpecifications.escapeLike("100%"));
+        assertEquals("a\\_b", EmployeeSpecifications.escapeLike("a_b"));
+    }
+
+    @Test
+    void shouldEscapeEscapeCharacterFirst() {
+        assertEquals("a\\\\\\%", EmployeeSpecifications.escapeLike("a\\%"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.crud.repository;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Проверяет запросы {@link ReactiveEmployeeRepository} на встроенном PostgreSQL ({@link TestPostgres})
+ * со схемой из миграций Flyway.
+ */
+@MicronautTest(environments = "r2dbc", transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveEmployeeRepositoryTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "reactive_repository";
+
+    @Inject
+    ReactiveEmployeeRepository repository;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "r2dbc.datasources.default.url", TestPostgres.r2dbcUrl(DATABASE),
+                "r2dbc.datasources.default.username", TestPostgres.USERNAME,
+                "r2dbc.datasources.default.password", TestPostgres.PASSWORD
+        );
+    }
+
+    @Test
+    void shouldReadPageAfterCursorInIdOrder() {
+        List<Long> ids = repository.saveAll(List.of(employee("cursor1"), employee("cursor2"), employee("cursor3")))
+                .map(Employee::getId)
+                .collectList()
+                .block();
+
+        List<EmployeeView> page = repository.findPageAfter(ids.get(0), 10).collectList().block();
+
+        assertEquals(ids.subList(1, 3), page.stream().map(EmployeeView::id).toList());
+    }
+
+    @Test
+    void shouldDeleteOnlyMatchingVersion() {
+        Employee saved = repository.save(employee("versioned")).block();
+
+        assertEquals(0L, repository.deleteByIdAndVersion(saved.getId(), saved.getVersion() + 1).block());
+        assertEquals(1L, repository.deleteByIdAndVersion(saved.getId(), saved.getVersion()).block());
+        assertFalse(repository.existsById(saved.getId()).block());
+    }
+
+    private static Employee employee(String login) {
+        Employee employee = new Employee();
+        employee.setFirstName("Иван");
+        employee.setLastName("Иванов");
+        employee.setLogin(login);
+        employee.setPassword("$2a$04$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234");
+        employee.setEmail(login + "@example.com");
+        return employee;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.crud.service;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.domain.Employee;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет {@link EmployeeAuthenticationService} на встроенном PostgreSQL ({@link TestPostgres}).
+ * Число вычислений BCrypt считается по таймеру employees.password.verify; стоимость BCrypt в тесте — 5,
+ * поэтому хеши со стоимостью 4 считаются устаревшими и пересчитываются после входа.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeAuthenticationServiceTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_authentication";
+    private static final String PASSWORD = "securePass123";
+
+    @Inject
+    EmployeeAuthenticationService authenticationService;
+
+    @Inject
+    EmployeeService employeeService;
+
+    @Inject
+    EmployeeRepository repository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.password-hashing.cost", "5",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldServeRepeatedSuccessFromCache() {
+        EmployeeView employee = create("auth1", BCrypt.hashpw(PASSWORD, BCrypt.gensalt(5)));
+        double before = verifications();
+
+        assertEquals(employee.id(), authenticate("auth1", PASSWORD).id());
+        assertEquals(employee.id(), authenticate("auth1", PASSWORD).id());
+
+        assertEquals(before + 1, verifications());
+    }
+
+    @Test
+    void shouldNotCacheWrongPassword() {
+        create("auth2", BCrypt.hashpw(PASSWORD, BCrypt.gensalt(5)));
+        double before = verifications();
+
+        assertUnauthorized("auth2", "wrongPassword");
+        assertUnauthorized("auth2", "wrongPassword");
+
+        assertEquals(before + 2, verifications());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentVerifications() {
+        // Дорогой хеш (около 0,25 с), чтобы все проверки успели начаться, пока первая ещё считается
+        create("auth3", BCrypt.hashpw(PASSWORD, BCrypt.gensalt(12)));
+        double before = verifications();
+
+        List<CompletableFuture<EmployeeView>> results = IntStream.range(0, 4)
+                .mapToObj(i -> authenticationService.authenticate("auth3", PASSWORD))
+                .toList();
+
+        results.forEach(result -> assertEquals("auth3", result.join().login()));
+        assertEquals(before + 1, verifications());
+    }
+
+    @Test
+    void shouldForgetCachedSuccessAfterPasswordChange() {
+        String oldHash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(5));
+        EmployeeView employee = create("auth4", oldHash);
+        authenticate("auth4", PASSWORD);
+
+        assertTrue(employeeService.rehashPassword(employee.id(), oldHash, BCrypt.hashpw("newPassword456", BCrypt.gensalt(5))));
+
+        assertUnauthorized("auth4", PASSWORD);
+        assertEquals(employee.id(), authenticate("auth4", "newPassword456").id());
+    }
+
+    @Test
+    void shouldRehashOutdatedHashAfterSuccessfulLogin() throws InterruptedException {
+        EmployeeView employee = create("auth5", BCrypt.hashpw(PASSWORD, BCrypt.gensalt(4)));
+        double rehashed = meterRegistry.get("employees.password.rehashed").counter().count();
+
+        authenticate("auth5", PASSWORD);
+
+        // Пересчёт идёт в фоне после ответа
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (storedHash(employee.id()).startsWith("$2a$04$") && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        String newHash = storedHash(employee.id());
+        assertTrue(newHash.startsWith("$2a$05$"), newHash);
+        assertTrue(BCrypt.checkpw(PASSWORD, newHash));
+        assertEquals(rehashed + 1, meterRegistry.get("employees.password.rehashed").counter().count());
+        assertEquals(employee.version(), repository.findById(employee.id()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void shouldRejectMalformedStoredHashAsUnauthorized() {
+        create("auth6", "not-a-bcrypt-hash");
+        create("auth7", "$2a$05$truncated");
+
+        assertUnauthorized("auth6", PASSWORD);
+        assertUnauthorized("auth7", PASSWORD);
+    }
+
+    @Test
+    void shouldRejectUnknownLogin() {
+        assertUnauthorized("nobody", PASSWORD);
+    }
+
+    private EmployeeView authenticate(String login, String password) {
+        return authenticationService.authenticate(login, password).join();
+    }
+
+    private void assertUnauthorized(String login, String password) {
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> authenticationService.authenticate(login, password).join());
+        HttpStatusException cause = assertInstanceOf(HttpStatusException.class, error.getCause());
+        assertEquals(HttpStatus.UNAUTHORIZED, cause.getStatus());
+    }
+
+    private double verifications() {
+        return meterRegistry.get("employees.password.verify").timer().count();
+    }
+
+    private String storedHash(Long id) {
+        return repository.findById(id).orElseThrow().getPassword();
+    }
+
+    private EmployeeView create(String login, String passwordHash) {
+        Employee employee = new Employee();
+        employee.setFirstName("Иван");
+        employee.setLastName("Иванов");
+        employee.setLogin(login);
+        employee.setPassword(passwordHash);
+        employee.setEmail(login + "@example.com");
+        return employeeService.create(employee);
+    }
+}
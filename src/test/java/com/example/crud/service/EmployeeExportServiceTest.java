@@ -0,0 +1,95 @@
+package com.example.crud.service;
+
+import com.example.crud.config.ExportConfiguration;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Учёт разрешений {@link EmployeeExportService} без БД: источник данных не выдаёт соединений,
+ * поэтому подписка на тело выгрузки завершается ошибкой сразу после взятия разрешения.
+ */
+class EmployeeExportServiceTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRejectExportOverLimit() {
+        EmployeeExportService service = service(Duration.ofMinutes(1));
+
+        service.export(EmployeeExportService.Format.CSV);
+
+        assertUnavailable(service);
+    }
+
+    @Test
+    void shouldReturnPermitWhenBodyIsNeverSubscribed() throws InterruptedException {
+        EmployeeExportService service = service(Duration.ofMillis(500));
+
+        service.export(EmployeeExportService.Format.CSV);
+        assertUnavailable(service);
+
+        Thread.sleep(1_000);
+        service.export(EmployeeExportService.Format.CSV);
+    }
+
+    @Test
+    void shouldReturnPermitWhenSubscriptionEnds() {
+        EmployeeExportService service = service(Duration.ofMinutes(1));
+
+        Flux<byte[]> body = service.export(EmployeeExportService.Format.CSV);
+        assertThrows(RuntimeException.class, body::blockLast);
+
+        service.export(EmployeeExportService.Format.CSV);
+    }
+
+    @Test
+    void shouldTakeNewPermitForLateSubscription() throws InterruptedException {
+        EmployeeExportService service = service(Duration.ofMillis(500));
+
+        Flux<byte[]> late = service.export(EmployeeExportService.Format.CSV);
+        Thread.sleep(1_000);
+        service.export(EmployeeExportService.Format.CSV);
+
+        // Разрешение истекло и занято другой выгрузкой: поздняя подписка получает отказ, а не второе место
+        HttpStatusException exception = assertThrows(HttpStatusException.class, late::blockLast);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+    }
+
+    private EmployeeExportService service(Duration subscribeTimeout) {
+        ExportConfiguration configuration = new ExportConfiguration();
+        configuration.setMaxConcurrent(1);
+        configuration.setSubscribeTimeout(subscribeTimeout);
+        return new EmployeeExportService(unavailableDataSource(), configuration, executor);
+    }
+
+    private static void assertUnavailable(EmployeeExportService service) {
+        HttpStatusException exception = assertThrows(HttpStatusException.class,
+                () -> service.export(EmployeeExportService.Format.CSV));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+    }
+
+    private static DataSource unavailableDataSource() {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    throw new SQLException("Нет соединения");
+                });
+    }
+}
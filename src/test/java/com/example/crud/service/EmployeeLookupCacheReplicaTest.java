@@ -0,0 +1,112 @@
+package com.example.crud.service;
+
+import com.example.crud.TestPostgres;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Проверяет, что {@link EmployeeLookupCache} в окружении replica не кеширует чтения с реплики.
+ * Реплику заменяет вторая база во встроенном PostgreSQL ({@link TestPostgres}): схему в ней создают те же
+ * миграции Flyway, а строки пишутся напрямую, поэтому реплика может расходиться с основной БД, как при отставании.
+ */
+@MicronautTest(environments = "replica", transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeLookupCacheReplicaTest implements TestPropertyProvider {
+
+    private String primaryUrl;
+    private String replicaUrl;
+
+    @Inject
+    EmployeeLookupCache lookupCache;
+
+    @Inject
+    EmployeeReadRouter readRouter;
+
+    @Override
+    public Map<String, String> getProperties() {
+        primaryUrl = TestPostgres.createDatabase("cache_primary");
+        replicaUrl = TestPostgres.createDatabase("cache_replica");
+        // Пул реплики только для чтения, поэтому схему в ней создаём напрямую, а не через flyway.datasources.replica
+        Flyway.configure()
+                .dataSource(replicaUrl, TestPostgres.USERNAME, TestPostgres.PASSWORD)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        return Map.of(
+                "datasources.default.url", primaryUrl,
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "datasources.replica.url", replicaUrl,
+                "datasources.replica.username", TestPostgres.USERNAME,
+                "datasources.replica.password", TestPostgres.PASSWORD,
+                "employees.cache.enabled", "true",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldNotCacheReplicaReads() throws SQLException {
+        try (Connection replica = replica()) {
+            insert(replica, 1L, "Прежняя");
+            assertEquals("Прежняя", lookupCache.findById(1L).orElseThrow().lastName());
+
+            rename(replica, 1L, "Догнавшая");
+            assertEquals("Догнавшая", lookupCache.findById(1L).orElseThrow().lastName());
+        }
+    }
+
+    @Test
+    void shouldCachePrimaryReadsAfterWrite() throws SQLException {
+        try (Connection primary = primary()) {
+            insert(primary, 2L, "Основная");
+            readRouter.markWritten(2L);
+            assertEquals("Основная", lookupCache.findById(2L).orElseThrow().lastName());
+
+            // Изменение в обход сервиса не сбрасывает кеш: значит, ответ получен из кеша
+            rename(primary, 2L, "Изменённая");
+            assertEquals("Основная", lookupCache.findById(2L).orElseThrow().lastName());
+        }
+    }
+
+    private static void insert(Connection connection, long id, String lastName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO employees (id, first_name, last_name, login, password, email, version)
+                VALUES (?, 'Иван', ?, ?, 'x', ?, 0)
+                """)) {
+            statement.setLong(1, id);
+            statement.setString(2, lastName);
+            statement.setString(3, "replica" + id);
+            statement.setString(4, "replica" + id + "@example.com");
+            statement.executeUpdate();
+        }
+    }
+
+    private static void rename(Connection connection, long id, String lastName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE employees SET last_name = ?, version = version + 1 WHERE id = ?")) {
+            statement.setString(1, lastName);
+            statement.setLong(2, id);
+            statement.executeUpdate();
+        }
+    }
+
+    private Connection primary() throws SQLException {
+        return DriverManager.getConnection(primaryUrl, TestPostgres.USERNAME, TestPostgres.PASSWORD);
+    }
+
+    private Connection replica() throws SQLException {
+        return DriverManager.getConnection(replicaUrl, TestPostgres.USERNAME, TestPostgres.PASSWORD);
+    }
+}
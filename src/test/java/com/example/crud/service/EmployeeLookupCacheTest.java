@@ -0,0 +1,169 @@
+package com.example.crud.service;
+
+import com.example.crud.config.EmployeeCacheConfiguration;
+import com.example.crud.config.ReadRoutingConfiguration;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeReadOperations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.data.model.Pageable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Гонки {@link EmployeeLookupCache} с параллельными изменениями: источник данных — таблица в памяти,
+ * чтение из которой можно остановить после выборки строки, чтобы воспроизвести нужный порядок событий.
+ */
+class EmployeeLookupCacheTest {
+
+    private final FakeSource source = new FakeSource();
+    private final FakeRouter router = new FakeRouter(source);
+    private final EmployeeLookupCache cache = new EmployeeLookupCache(
+            router, new EmployeeCacheConfiguration(), new SimpleMeterRegistry());
+
+    @Test
+    void shouldNotCacheRowReadBeforeConcurrentDelete() throws Exception {
+        source.rows.put(1L, view(1L, 3L));
+        source.pauseAfterRead = new CountDownLatch(1);
+
+        // Промах кеша: чтение выбрало версию 3 и остановилось до записи в кеш
+        Thread reader = new Thread(() -> cache.findById(1L));
+        reader.start();
+        assertTrue(source.readDone.await(5, TimeUnit.SECONDS));
+
+        // Параллельный DELETE: строка удалена, кеш сброшен, пока чтение ещё не завершилось
+        source.rows.remove(1L);
+        Thread deleter = new Thread(() -> cache.evict(1L));
+        deleter.start();
+        awaitBlockedOrDone(deleter);
+
+        source.pauseAfterRead.countDown();
+        reader.join(5_000);
+        deleter.join(5_000);
+
+        source.pauseAfterRead = null;
+        assertEquals(Optional.empty(), cache.findById(1L));
+    }
+
+    @Test
+    void shouldKeepNewerVersionWhenUpdatesArriveOutOfOrder() {
+        cache.put(view(1L, 5L));
+        cache.put(view(1L, 4L));
+
+        assertEquals(5L, cache.findById(1L).orElseThrow().version());
+        assertEquals(0, source.reads.get());
+    }
+
+    @Test
+    void shouldReplaceWithNewerVersion() {
+        cache.put(view(1L, 4L));
+        cache.put(view(1L, 5L));
+
+        assertEquals(5L, cache.findById(1L).orElseThrow().version());
+    }
+
+    @Test
+    void shouldServeRepeatedPrimaryReadsFromCache() {
+        source.rows.put(1L, view(1L, 1L));
+
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertEquals(1, source.reads.get());
+    }
+
+    @Test
+    void shouldNotCacheReplicaReads() {
+        router.replica = true;
+        source.rows.put(1L, view(1L, 1L));
+
+        cache.findById(1L);
+        source.rows.put(1L, view(1L, 2L));
+
+        assertEquals(2L, cache.findById(1L).orElseThrow().version());
+        assertEquals(2, source.reads.get());
+    }
+
+    @Test
+    void shouldNotCacheMissingEmployee() {
+        assertEquals(Optional.empty(), cache.findById(1L));
+
+        source.rows.put(1L, view(1L, 1L));
+        assertEquals(1L, cache.findById(1L).orElseThrow().version());
+    }
+
+    // evict ждёт на блокировке ключа, пока идёт загрузка; без неё он завершается сразу
+    private static void awaitBlockedOrDone(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread.State state = thread.getState();
+            if (state == Thread.State.BLOCKED || state == Thread.State.WAITING || state == Thread.State.TERMINATED) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static EmployeeView view(Long id, Long version) {
+        return new EmployeeView(id, "Иван", "Иванов", null, "ivanov" + id, "ivanov" + id + "@example.com", version);
+    }
+
+    private static final class FakeSource implements EmployeeReadOperations {
+
+        final Map<Long, EmployeeView> rows = new ConcurrentHashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        final CountDownLatch readDone = new CountDownLatch(1);
+        volatile CountDownLatch pauseAfterRead;
+
+        @Override
+        public Optional<EmployeeView> readById(Long id) {
+            reads.incrementAndGet();
+            Optional<EmployeeView> row = Optional.ofNullable(rows.get(id));
+            CountDownLatch pause = pauseAfterRead;
+            if (pause != null) {
+                readDone.countDown();
+                try {
+                    pause.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public List<EmployeeView> readByIdGreaterThan(Long id, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class FakeRouter extends EmployeeReadRouter {
+
+        private final EmployeeReadOperations source;
+        volatile boolean replica;
+
+        FakeRouter(EmployeeReadOperations source) {
+            super(null, Optional.empty(), null, new ReadRoutingConfiguration(), new SimpleMeterRegistry());
+            this.source = source;
+        }
+
+        @Override
+        public EmployeeReadOperations reads(Long id) {
+            return source;
+        }
+
+        @Override
+        public boolean isReplica(EmployeeReadOperations source) {
+            return replica;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.crud.service;
+
+import com.example.crud.TestPostgres;
+import com.example.crud.domain.Employee;
+import com.example.crud.domain.EmployeeChangeType;
+import com.example.crud.domain.EmployeeOutboxEvent;
+import com.example.crud.dto.EmployeeChange;
+import com.example.crud.dto.EmployeeView;
+import com.example.crud.repository.EmployeeOutboxRepository;
+import com.example.crud.repository.EmployeeRepository;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.sse.SseClient;
+import io.micronaut.http.sse.Event;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Журнал изменений (transactional outbox) и лента /employees/changes на встроенном PostgreSQL ({@link TestPostgres}).
+ * Фоновая публикация отключена: позиции назначает сам тест через {@link EmployeeChangeFeed#publishPending(int)}.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeOutboxTest implements TestPropertyProvider {
+
+    private static final String DATABASE = "employee_outbox";
+
+    @Inject
+    EmployeeService employeeService;
+
+    @Inject
+    EmployeeChangeFeed feed;
+
+    @Inject
+    EmployeeRepository repository;
+
+    @Inject
+    EmployeeOutboxRepository outboxRepository;
+
+    @Inject
+    TransactionOperations<Session> transactionOperations;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    @Client("/")
+    SseClient sseClient;
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Map.of(
+                "datasources.default.url", TestPostgres.createDatabase(DATABASE),
+                "datasources.default.username", TestPostgres.USERNAME,
+                "datasources.default.password", TestPostgres.PASSWORD,
+                "employees.outbox.publisher-enabled", "false",
+                "employees.rate-limit.enabled", "false"
+        );
+    }
+
+    @Test
+    void shouldWriteOutboxRowWithEmployeeChange() {
+        EmployeeView created = employeeService.create(employee("outbox1"));
+
+        List<EmployeeOutboxEvent> events = eventsOf(created.id());
+        assertEquals(1, events.size());
+        assertEquals(EmployeeChangeType.CREATED, events.get(0).getChangeType());
+        assertEquals(created.version(), events.get(0).getVersion());
+        // Позицию событие получает только при публикации
+        assertNull(events.get(0).getPosition());
+    }
+
+    @Test
+    void shouldRollBackOutboxRowWithFailedTransaction() {
+        long before = outboxRepository.count();
+
+        assertThrows(IllegalStateException.class, () -> transactionOperations.executeWrite(status -> {
+            employeeService.create(employee("outbox2"));
+            throw new IllegalStateException("откат");
+        }));
+
+        assertEquals(Optional.empty(), repository.findByLogin("outbox2"));
+        assertEquals(before, outboxRepository.count());
+    }
+
+    @Test
+    void shouldNotWriteOutboxRowForRejectedChange() {
+        EmployeeView created = employeeService.create(employee("outbox3"));
+
+        // Устаревшая версия: UPDATE не затронул строк, событие не пишется
+        assertFalse(employeeService.patch(created.id(), created.version() + 1, Map.of("firstName", "Пётр")));
+        assertFalse(employeeService.delete(created.id(), created.version() + 1));
+
+        assertEquals(1, eventsOf(created.id()).size());
+    }
+
+    @Test
+    void shouldAssignContiguousPositionsInWriteOrderUnderConcurrentPublishers() throws Exception {
+        publishAll();
+        long start = feed.latestPosition();
+        List<Long> ids = IntStream.range(0, 20)
+                .mapToObj(i -> employeeService.create(employee("concurrent" + i)).id())
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> publishers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                publishers.add(CompletableFuture.runAsync(() -> {
+                    while (!outboxRepository.findPending(1).isEmpty()) {
+                        feed.publishPending(3);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(publishers.toArray(CompletableFuture[]::new)).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<EmployeeChange> changes = feed.changesSince(start, 100);
+        assertEquals(LongStream.rangeClosed(start + 1, start + 20).boxed().toList(),
+                changes.stream().map(EmployeeChange::position).toList());
+        assertEquals(ids, changes.stream().map(EmployeeChange::employeeId).toList());
+    }
+
+    @Test
+    void shouldSkipPublishingWhileAnotherPublisherHoldsLock() {
+        employeeService.create(employee("locked"));
+
+        int concurrent = transactionOperations.executeWrite(status -> {
+            feed.publishPending(1);
+            // Блокировка взята в этой транзакции и держится до её завершения
+            return CompletableFuture.supplyAsync(() -> feed.publishPending(100)).join();
+        });
+
+        assertEquals(0, concurrent);
+    }
+
+    @Test
+    void shouldPageChangesWithNextCursor() {
+        publishAll();
+        long start = feed.latestPosition();
+        List<Long> ids = IntStream.range(0, 3)
+                .mapToObj(i -> employeeService.create(employee("paged" + i)).id())
+                .toList();
+        publishAll();
+
+        HttpResponse<List<EmployeeChange>> first = changes(start, 2);
+        assertEquals(ids.subList(0, 2), first.body().stream().map(EmployeeChange::employeeId).toList());
+        long cursor = Long.parseLong(first.header("X-Next-Cursor"));
+        assertEquals(start + 2, cursor);
+
+        HttpResponse<List<EmployeeChange>> second = changes(cursor, 2);
+        assertEquals(ids.subList(2, 3), second.body().stream().map(EmployeeChange::employeeId).toList());
+        long last = Long.parseLong(second.header("X-Next-Cursor"));
+
+        // Новых изменений нет: курсор остаётся на месте
+        HttpResponse<List<EmployeeChange>> empty = changes(last, 2);
+        assertTrue(empty.body().isEmpty());
+        assertEquals(String.valueOf(last), empty.header("X-Next-Cursor"));
+    }
+
+    @Test
+    void shouldResumeStreamAfterLastEventId() {
+        publishAll();
+        List<Long> ids = IntStream.range(0, 3)
+                .mapToObj(i -> employeeService.create(employee("resumed" + i)).id())
+                .toList();
+        publishAll();
+        long lastSeen = feed.latestPosition() - 2;
+
+        List<Event<EmployeeChange>> events = Flux.from(sseClient.eventStream(
+                        HttpRequest.GET("/employees/changes/stream?since=0").header("Last-Event-ID", String.valueOf(lastSeen)),
+                        EmployeeChange.class))
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(List.of(String.valueOf(lastSeen + 1), String.valueOf(lastSeen + 2)),
+                events.stream().map(Event::getId).toList());
+        assertEquals(ids.subList(1, 3), events.stream().map(event -> event.getData().employeeId()).toList());
+        assertEquals("created", events.get(0).getName());
+    }
+
+    private HttpResponse<List<EmployeeChange>> changes(long since, int size) {
+        return client.toBlocking().exchange(
+                HttpRequest.GET("/employees/changes?since=" + since + "&size=" + size),
+                Argument.listOf(EmployeeChange.class));
+    }
+
+    private void publishAll() {
+        while (feed.publishPending(100) > 0) {
+            // публикуем, пока есть неопубликованные события
+        }
+    }
+
+    private List<EmployeeOutboxEvent> eventsOf(Long employeeId) {
+        return outboxRepository.findAll().stream()
+                .filter(event -> event.getEmployeeId().equals(employeeId))
+                .toList();
+    }
+
+    private static Employee employee(String login) {
+        Employee employee = new Employee();
+        employee.setFirstName("Иван");
+        employee.setLastName("Иванов");
+        employee.setLogin(login);
+        employee.setPassword("x");
+        employee.setEmail(login + "@example.com");
+        return employee;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.crud.service;
+
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeeSearchCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        EmployeeSearchService.Cursor cursor = new EmployeeSearchService.Cursor(42L, "Иванов");
+
+        assertEquals(cursor, EmployeeSearchService.Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldKeepSeparatorInsideValue() {
+        EmployeeSearchService.Cursor cursor = new EmployeeSearchService.Cursor(7L, "a:b:c");
+
+        assertEquals(cursor, EmployeeSearchService.Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldBeUrlSafe() {
+        String encoded = new EmployeeSearchService.Cursor(1L, "???>>>").encode();
+
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertBadRequest(() -> EmployeeSearchService.Cursor.decode("не base64"));
+        assertBadRequest(() -> EmployeeSearchService.Cursor.decode("bm8tc2VwYXJhdG9y"));
+        assertBadRequest(() -> EmployeeSearchService.Cursor.decode("YWJjOnZhbHVl"));
+    }
+
+    private static void assertBadRequest(Executable decode) {
+        HttpStatusException exception = assertThrows(HttpStatusException.class, decode);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.crud.service;
+
+import com.example.crud.config.PasswordHashingConfiguration;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Очереди и метрики {@link PasswordHashingService} в формате Prometheus: пулы по одному потоку с очередью на одну задачу,
+ * кодировщик держит задачи, пока тест не отпустит их.
+ */
+class PasswordHashingServiceTest {
+
+    private final PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final BlockingEncoder encoder = new BlockingEncoder();
+    private final PasswordHashingService service = new PasswordHashingService(encoder, configuration(), meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        encoder.release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void shouldReject503WhenQueueIsFull() throws InterruptedException {
+        CompletableFuture<String> running = service.encode("first");
+        assertTrue(encoder.started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = service.encode("second");
+
+        CompletionException error = assertThrows(CompletionException.class, () -> service.encode("third").join());
+        HttpStatusException cause = assertInstanceOf(HttpStatusException.class, error.getCause());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, cause.getStatus());
+
+        encoder.release.countDown();
+        assertEquals("hash:first", running.join());
+        assertEquals("hash:second", queued.join());
+    }
+
+    @Test
+    void shouldReportQueueDepthAndActiveTasks() throws InterruptedException {
+        service.encode("first");
+        assertTrue(encoder.started.await(5, TimeUnit.SECONDS));
+        service.encode("second");
+
+        assertEquals(1, meterRegistry.get("employees.password.hashing.active").gauge().value());
+        assertEquals(1, meterRegistry.get("employees.password.hashing.queue").gauge().value());
+        assertEquals(0, meterRegistry.get("employees.password.verifying.queue").gauge().value());
+    }
+
+    @Test
+    void shouldVerifyWhileHashingPoolIsSaturated() throws Exception {
+        service.encode("first");
+        assertTrue(encoder.started.await(5, TimeUnit.SECONDS));
+        service.encode("second");
+
+        assertTrue(service.matches("password", "hash:password").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRecordLatencyHistogram() {
+        encoder.release.countDown();
+
+        service.encode("first").join();
+        service.matches("first", "hash:first").join();
+
+        assertEquals(1, meterRegistry.get("employees.password.hash").timer().count());
+        assertEquals(1, meterRegistry.get("employees.password.verify").timer().count());
+        // Гистограмма публикуется корзинами, из которых Prometheus считает перцентили по всем экземплярам
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.contains("employees_password_hash_seconds_bucket{le=\"+Inf\"} 1"), scrape);
+        assertTrue(scrape.contains("employees_password_verify_seconds_bucket{le=\"+Inf\"} 1"), scrape);
+    }
+
+    private static PasswordHashingConfiguration configuration() {
+        PasswordHashingConfiguration configuration = new PasswordHashingConfiguration();
+        configuration.setCost(4);
+        configuration.setPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setVerifyPoolSize(1);
+        configuration.setVerifyQueueCapacity(1);
+        return configuration;
+    }
+
+    // Хеширование ждёт release, проверка выполняется сразу
+    private static final class BlockingEncoder extends PasswordEncoder {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingEncoder() {
+            super(configuration());
+        }
+
+        @Override
+        public String encode(String rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    }
+}